@@ -0,0 +1,68 @@
+package com.promisenow.api.domain.availability.codec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날짜 하나의 슬롯별 인원 집계 비교 (문자 단위 vs 비트 슬라이스)
+ * members 명이 각자 30슬롯 중 절반 정도를 선택한 일정을 집계한다. (방 최대 인원 9명)
+ * 실행: ./gradlew jmh -Pjmh.includes=SlotCounterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SlotCounterBenchmark {
+
+    @Param({"3", "9", "64"})
+    private int members;
+
+    private String[] timeData;
+    private long[] timeBits;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        timeData = new String[members];
+        timeBits = new long[members];
+        for (int m = 0; m < members; m++) {
+            char[] chars = new char[TimeSlotCodec.SLOT_COUNT];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = random.nextBoolean() ? '1' : '0';
+            }
+            timeData[m] = new String(chars);
+            timeBits[m] = TimeSlotCodec.encode(timeData[m]);
+        }
+    }
+
+    // 기존 방식: 문자열을 한 글자씩 확인
+    @Benchmark
+    public int[] characters() {
+        int[] counts = new int[TimeSlotCodec.SLOT_COUNT];
+        for (String data : timeData) {
+            for (int i = 0; i < TimeSlotCodec.SLOT_COUNT; i++) {
+                if (data.charAt(i) == '1') {
+                    counts[i]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public int[] slotCounter() {
+        SlotCounter counter = new SlotCounter();
+        for (long bits : timeBits) {
+            counter.add(bits);
+        }
+        return counter.toCounts();
+    }
+}
@@ -0,0 +1,88 @@
+package com.promisenow.api.domain.availability.processor;
+
+import com.promisenow.api.domain.availability.codec.TimeSlotCodec;
+import com.promisenow.api.domain.availability.entity.Availability;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날짜별 인원 집계의 순차/병렬 비교 (parallel-threshold 결정용)
+ * 9명이 dates 일 동안 모두 일정을 입력한 방을 집계한다. 병렬 쪽은 threshold 1, 날짜 8개 단위 작업.
+ * 실행: ./gradlew jmh -Pjmh.includes=AvailabilityAggregationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvailabilityAggregationBenchmark {
+
+    private static final int MEMBERS = 9;
+
+    @Param({"8", "32", "128", "512", "2048"})
+    private int dates;
+
+    private List<Availability> availabilities;
+    private AvailabilityProcessorImpl sequential;
+    private AvailabilityProcessorImpl parallel;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        SplittableRandom random = new SplittableRandom(42);
+        availabilities = new ArrayList<>();
+        LocalDate baseDate = LocalDate.of(2025, 1, 1);
+        for (int d = 0; d < dates; d++) {
+            for (int m = 0; m < MEMBERS; m++) {
+                long bits = random.nextLong() & TimeSlotCodec.ALL_SLOTS;
+                availabilities.add(Availability.builder()
+                        .date(baseDate.plusDays(d))
+                        .timeBits(bits)
+                        .build());
+            }
+        }
+        sequential = processor(0);
+        parallel = processor(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallel.shutdown();
+    }
+
+    @Benchmark
+    public Map<LocalDate, int[]> sequential() {
+        return sequential.countByDate(availabilities);
+    }
+
+    @Benchmark
+    public Map<LocalDate, int[]> parallel() {
+        return parallel.countByDate(availabilities);
+    }
+
+    private static AvailabilityProcessorImpl processor(int parallelThreshold) throws ReflectiveOperationException {
+        AvailabilityProcessorImpl processor = new AvailabilityProcessorImpl();
+        set(processor, "parallelThreshold", parallelThreshold);
+        set(processor, "datesPerTask", 8);
+        return processor;
+    }
+
+    // @Value 필드 주입 대신 직접 설정
+    private static void set(AvailabilityProcessorImpl processor, String name, int value) throws ReflectiveOperationException {
+        Field field = AvailabilityProcessorImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.setInt(processor, value);
+    }
+}
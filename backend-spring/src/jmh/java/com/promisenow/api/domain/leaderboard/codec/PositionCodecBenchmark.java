@@ -0,0 +1,121 @@
+package com.promisenow.api.domain.leaderboard.codec;
+
+import com.promisenow.api.domain.leaderboard.dto.UserPositionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 위치 레코드 코덱 비교 (고정 길이 바이너리 레코드 vs 이전 JSON 해시 필드)
+ * 이전 방식은 toRedisMap 의 필드마다 GenericJackson2JsonRedisSerializer 로 직렬화하고,
+ * 조회 시 필드마다 역직렬화한 뒤 safeParse 로 DTO 를 만들었다.
+ * 실행: ./gradlew jmh -Pjmh.includes=PositionCodecBenchmark (할당량은 -Pjmh.profilers=gc)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PositionCodecBenchmark {
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final PositionRecord reusableRecord = new PositionRecord();
+
+    private UserPositionDto position;
+    private byte[] record;
+    private Map<String, byte[]> jsonHash;
+
+    @Setup
+    public void setUp() {
+        position = UserPositionDto.builder()
+                .lat(37.5665)
+                .lng(126.9780)
+                .timestamp(1_735_000_000_000L)
+                .startLat(37.4979)
+                .startLng(127.0276)
+                .velocity(4.5)
+                .progress(42.0)
+                .arrived(false)
+                .build();
+        record = PositionCodec.encode(position);
+        jsonHash = encodeJsonHash();
+    }
+
+    @Benchmark
+    public byte[] recordEncode() {
+        return PositionCodec.encode(position);
+    }
+
+    @Benchmark
+    public UserPositionDto recordDecode() {
+        return PositionCodec.decode(record);
+    }
+
+    // 조회 경로 (LeaderboardServiceImpl): 재사용 레코드에 풀어 담기
+    @Benchmark
+    public PositionRecord recordDecodeInto() {
+        PositionCodec.decode(record, reusableRecord);
+        return reusableRecord;
+    }
+
+    @Benchmark
+    public Map<String, byte[]> jsonHashEncode() {
+        return encodeJsonHash();
+    }
+
+    @Benchmark
+    public UserPositionDto jsonHashDecode() {
+        Map<String, Object> fields = new HashMap<>();
+        jsonHash.forEach((field, value) -> fields.put(field, jsonSerializer.deserialize(value)));
+        return UserPositionDto.builder()
+                .lat(parseDouble(fields.get("lat")))
+                .lng(parseDouble(fields.get("lng")))
+                .timestamp(parseLong(fields.get("time")))
+                .startLat(parseDouble(fields.get("startLat")))
+                .startLng(parseDouble(fields.get("startLng")))
+                .velocity(parseDouble(fields.get("velocity")))
+                .progress(parseDouble(fields.get("progress")))
+                .arrived(parseBoolean(fields.get("arrived")))
+                .build();
+    }
+
+    // 이전 UserPositionDto.toRedisMap + 해시 값 직렬화
+    private Map<String, byte[]> encodeJsonHash() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("lat", position.getLat());
+        map.put("lng", position.getLng());
+        map.put("time", position.getTimestamp());
+        map.put("startLat", position.getStartLat());
+        map.put("startLng", position.getStartLng());
+        map.put("velocity", position.getVelocity());
+        map.put("progress", position.getProgress());
+        map.put("arrived", position.getArrived());
+
+        Map<String, byte[]> hash = new HashMap<>();
+        map.forEach((field, value) -> hash.put(field, jsonSerializer.serialize(value)));
+        return hash;
+    }
+
+    // 이전 UserPositionDto.safeParse* 와 같은 변환
+    private static Double parseDouble(Object value) {
+        if (value == null) return null;
+        return value instanceof Number number ? number.doubleValue() : Double.parseDouble(value.toString());
+    }
+
+    private static Long parseLong(Object value) {
+        if (value == null) return null;
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
+
+    private static Boolean parseBoolean(Object value) {
+        if (value == null) return null;
+        return value instanceof Boolean bool ? bool : Boolean.parseBoolean(value.toString());
+    }
+}
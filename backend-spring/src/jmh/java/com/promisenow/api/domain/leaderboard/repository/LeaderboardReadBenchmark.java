@@ -0,0 +1,107 @@
+package com.promisenow.api.domain.leaderboard.repository;
+
+import com.promisenow.api.config.RedisConfig;
+import com.promisenow.api.domain.leaderboard.dto.LeaderboardEntryDto;
+import com.promisenow.api.domain.leaderboard.dto.UserPositionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리더보드 조회 비교 (멤버별 명령 vs 조회 스크립트 단일 라운드트립)
+ * members 명이 위치/온라인 정보를 가진 방 하나를 실제 Redis 에 만들어 두고 상위 전체를 조회한다.
+ * 실행: ./gradlew jmh -Pjmh.includes=LeaderboardReadBenchmark (Redis 주소는 -Predis.host, -Predis.port, 기본 localhost:6379)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LeaderboardReadBenchmark {
+
+    // 실제 방과 겹치지 않는 벤치마크 전용 방
+    private static final long ROOM_ID = 9_000_000_001L;
+
+    @Param({"9", "50"})
+    private int members;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, byte[]> template;
+    private RedisLeaderboardRepository repository;
+    private LeaderboardKeys keys;
+
+    @Setup
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getProperty("redis.host", "localhost"),
+                Integer.getInteger("redis.port", 6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        template = new RedisConfig().leaderboardRedisTemplate(connectionFactory);
+        repository = new RedisLeaderboardRepository(template);
+        keys = LeaderboardKeys.of(ROOM_ID);
+
+        clear();
+        for (long roomUserId = 1; roomUserId <= members; roomUserId++) {
+            repository.saveUserPosition(keys.positionKey(roomUserId), UserPositionDto.builder()
+                    .lat(37.5665 + roomUserId * 0.001)
+                    .lng(126.9780)
+                    .startLat(37.4979)
+                    .startLng(127.0276)
+                    .velocity(4.5)
+                    .progress(roomUserId)
+                    .timestamp(System.currentTimeMillis())
+                    .arrived(false)
+                    .build());
+            repository.setOnlineStatus(keys.onlineKey(roomUserId), roomUserId % 2 == 0, 3600);
+            repository.addToLeaderboard(keys.leaderboardKey(), String.valueOf(roomUserId), roomUserId);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        clear();
+        connectionFactory.destroy();
+    }
+
+    // 이전 방식: ZCARD, ZRANGE 후 멤버마다 EXISTS(온라인) + GET(위치) (2N + 2 라운드트립)
+    @Benchmark
+    public List<Object> perMemberCommands() {
+        List<Object> result = new ArrayList<>();
+        Long size = repository.getLeaderboardSize(keys.leaderboardKey());
+        Set<Object> roomUserIds = repository.getTopUsers(keys.leaderboardKey(), (int) Math.min(size, members));
+        for (Object roomUserId : roomUserIds) {
+            long id = Long.parseLong(roomUserId.toString());
+            result.add(repository.isOnline(keys.onlineKey(id)));
+            result.add(repository.getUserPosition(keys.positionKey(id)));
+        }
+        return result;
+    }
+
+    // 현재 방식: leaderboard-read.lua 한 번
+    @Benchmark
+    public List<LeaderboardEntryDto> singleRoundTrip() {
+        return repository.getLeaderboardEntries(keys.leaderboardKey(), keys.userKeyPrefix(), members);
+    }
+
+    private void clear() {
+        List<String> roomKeys = new ArrayList<>(List.of(keys.leaderboardKey(), keys.arrivalOrderKey()));
+        for (long roomUserId = 1; roomUserId <= members; roomUserId++) {
+            roomKeys.add(keys.positionKey(roomUserId));
+            roomKeys.add(keys.onlineKey(roomUserId));
+        }
+        template.delete(roomKeys);
+    }
+}
@@ -0,0 +1,97 @@
+package com.promisenow.api.domain.leaderboard.repository;
+
+import com.promisenow.api.domain.leaderboard.codec.PositionCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 위치 갱신 한 건의 클라이언트 측 준비 비용 비교 (키/인자 만들기 + 응답 해석, Redis 호출 제외)
+ * 이전 방식은 키 문자열 4개와 인자 9개를 매번 문자열로 만들어 직렬화하고, 속도를 문자열로 받아 파싱했다.
+ * 현재 방식은 방 단위 키 바이트(LeaderboardKeys)와 스레드별 요청 버퍼(UpdateScratch)를 재사용한다.
+ * 실행: ./gradlew jmh -Pjmh.includes=LeaderboardUpdateBenchmark -Pjmh.profilers=gc (gc.alloc.rate.norm 이 연산당 할당량)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LeaderboardUpdateBenchmark {
+
+    private static final long ROOM_ID = 1234L;
+    private static final long ROOM_USER_ID = 56789L;
+
+    private final RedisSerializer<String> stringSerializer = RedisSerializer.string();
+
+    // RedisLeaderboardRepository.UpdateScratch 와 같은 스레드별 재사용 버퍼
+    private final byte[] request = new byte[PositionCodec.UPDATE_REQUEST_SIZE];
+    private final byte[][] keysAndArgs = new byte[5][];
+
+    private LeaderboardKeys keys;
+    private byte[] velocityString;
+    private byte[] velocityPacked;
+    private double lat;
+
+    @Setup
+    public void setUp() {
+        keys = LeaderboardKeys.of(ROOM_ID);
+        keysAndArgs[4] = request;
+        velocityString = "4.5123".getBytes(StandardCharsets.UTF_8);
+        velocityPacked = new byte[Double.BYTES];
+        ByteBuffer.wrap(velocityPacked).order(ByteOrder.LITTLE_ENDIAN).putDouble(4.5123);
+        lat = 37.5665;
+    }
+
+    // 이전 방식: 키 연결, String.valueOf 인자, 키/인자 직렬화, 문자열 응답 파싱
+    @Benchmark
+    public double stringArguments() {
+        lat += 1e-7;
+        String userKey = "room:" + ROOM_ID + ":user:" + ROOM_USER_ID;
+        List<String> scriptKeys = List.of(userKey + ":pos", userKey + ":online",
+                "room:" + ROOM_ID + ":arrivalOrder", "room:" + ROOM_ID + ":leaderboard");
+        Object[] args = {
+                String.valueOf(ROOM_USER_ID),
+                String.valueOf(lat),
+                String.valueOf(126.9780),
+                "1",
+                String.valueOf(37.4979),
+                String.valueOf(127.0276),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(300L),
+                String.valueOf(0.05)
+        };
+
+        // RedisTemplate.execute(script, argsSerializer, resultSerializer, keys, args) 의 keysAndArgs 구성
+        byte[][] serialized = new byte[scriptKeys.size() + args.length][];
+        int i = 0;
+        for (String key : scriptKeys) {
+            serialized[i++] = stringSerializer.serialize(key);
+        }
+        for (Object arg : args) {
+            serialized[i++] = stringSerializer.serialize((String) arg);
+        }
+        return serialized.length + Double.parseDouble(stringSerializer.deserialize(velocityString));
+    }
+
+    // 현재 방식: RedisLeaderboardRepository.updateUserPosition 의 준비 단계
+    @Benchmark
+    public double packedRequest() {
+        lat += 1e-7;
+        PositionCodec.encodeUpdateRequest(request, ROOM_USER_ID, lat, 126.9780, true,
+                37.4979, 127.0276, System.currentTimeMillis(), 300, 0.05, false);
+        keysAndArgs[0] = keys.positionKey(ROOM_USER_ID).getBytes(StandardCharsets.UTF_8);
+        keysAndArgs[1] = keys.onlineKey(ROOM_USER_ID).getBytes(StandardCharsets.UTF_8);
+        keysAndArgs[2] = keys.arrivalOrderKeyBytes();
+        keysAndArgs[3] = keys.leaderboardKeyBytes();
+        return keysAndArgs.length + PositionCodec.readDouble(velocityPacked);
+    }
+}
@@ -0,0 +1,70 @@
+package com.promisenow.api.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거리 계산 모드 비교
+ * 목적지 주변 50km 이내의 좌표 1024 개에 대해 목적지까지 거리를 계산한다.
+ * 실행: ./gradlew jmh -Pjmh.includes=GeoDistanceBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeoDistanceBenchmark {
+
+    private static final int POINTS = 1024;
+    private static final double GOAL_LAT = 37.4979;
+    private static final double GOAL_LNG = 127.0276;
+
+    private final double[] lats = new double[POINTS];
+    private final double[] lngs = new double[POINTS];
+    private GeoDistance.Point goal;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < POINTS; i++) {
+            // 위도 0.45도 ≒ 50km
+            lats[i] = GOAL_LAT + random.nextDouble(-0.45, 0.45);
+            lngs[i] = GOAL_LNG + random.nextDouble(-0.45, 0.45);
+        }
+        goal = GeoDistance.Point.of(GOAL_LAT, GOAL_LNG);
+    }
+
+    // 목적지 좌표를 매번 새로 계산 (캐시 없음)
+    @Benchmark
+    public double haversineUncached() {
+        double sum = 0;
+        for (int i = 0; i < POINTS; i++) {
+            sum += GeoDistance.haversine(lats[i], lngs[i], GOAL_LAT, GOAL_LNG);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double haversine() {
+        double sum = 0;
+        for (int i = 0; i < POINTS; i++) {
+            sum += GeoDistance.distanceKm(GeoDistance.Mode.HAVERSINE, goal, lats[i], lngs[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double equirectangular() {
+        double sum = 0;
+        for (int i = 0; i < POINTS; i++) {
+            sum += GeoDistance.distanceKm(GeoDistance.Mode.EQUIRECTANGULAR, goal, lats[i], lngs[i]);
+        }
+        return sum;
+    }
+}
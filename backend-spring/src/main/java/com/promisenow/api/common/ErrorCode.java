@@ -28,6 +28,9 @@ public enum ErrorCode {
     FILE_REQUIRED("파일이 비어있습니다. form-data의 key가 'file'인지 확인하세요.", HttpStatus.BAD_REQUEST),
     PROFILE_IMAGE_STORE_FAIL("프로필 이미지 저장 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
 
+    // 채팅 관련 Error 메시지
+    INVALID_CURSOR("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
+
     // 일반적인 오류 메시지
     BAD_REQUEST("유효하지 않은 요청입니다.", HttpStatus.BAD_REQUEST),
     INTERNAL_SERVER_ERROR("서버 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
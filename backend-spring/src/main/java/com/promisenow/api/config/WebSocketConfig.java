@@ -1,8 +1,24 @@
 package com.promisenow.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.promisenow.api.infrastructure.websocket.LocalTopicPublisher;
+import com.promisenow.api.infrastructure.websocket.RedisTopicPublisher;
+import com.promisenow.api.infrastructure.websocket.StompChannelMetrics;
+import com.promisenow.api.infrastructure.websocket.TopicPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -10,10 +26,53 @@ import org.springframework.web.socket.config.annotation.WebSocketTransportRegist
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.http.MediaType;
 import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    // simple: 인메모리 브로커 (로컬 개발, 단일 인스턴스)
+    // relay: 외부 STOMP 브로커(RabbitMQ, ActiveMQ 등)로 릴레이
+    // redis: 인스턴스마다 simple 브로커를 두고 Redis pub/sub 으로 전파
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${websocket.broker.redis.channel:stomp:topic}")
+    private String redisChannel;
+
+    // true 면 채널 핸들러를 요청마다 가상 스레드에서 실행 (JPA/Redis/HTTP 대기 중에도 다른 메시지 처리가 막히지 않음)
+    @Value("${websocket.channel.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Value("${websocket.channel.inbound.pool-size:16}")
+    private int inboundPoolSize;
+
+    @Value("${websocket.channel.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.channel.outbound.pool-size:8}")
+    private int outboundPoolSize;
+
+    @Value("${websocket.channel.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         //클라이언트가 /ws-chat 경로로 웹소켓 연결을 시도
@@ -38,7 +97,76 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         //SimpleBroker가 해당 토픽에 메시지를 브로드캐스틍 하기 위한 엔드포인트
         registry.setApplicationDestinationPrefixes("/app");
         //브로커가 받기전에 스프링이 먼저 받는 주소
-        registry.enableSimpleBroker("/topic");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            registry.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+        } else {
+            registry.enableSimpleBroker("/topic");
+        }
+        // outbound 채널이 여러 스레드라도 세션별로 발행 순서대로 전송
+        // (같은 토픽의 채팅과 피노 스트리밍 조각 seq 가 뒤바뀌지 않도록)
+        registry.setPreservePublishOrder(true);
+    }
+
+    /**
+     * /topic 전송 창구 (redis 모드면 Redis pub/sub 을 거쳐 모든 인스턴스로 전파)
+     */
+    @Bean
+    public TopicPublisher topicPublisher(SimpMessagingTemplate messagingTemplate,
+                                         RedisConnectionFactory connectionFactory,
+                                         StringRedisTemplate stringRedisTemplate,
+                                         ObjectMapper objectMapper) {
+        return switch (brokerMode.toLowerCase()) {
+            case "simple", "relay" -> new LocalTopicPublisher(messagingTemplate);
+            case "redis" -> new RedisTopicPublisher(redisChannel, connectionFactory, stringRedisTemplate,
+                    messagingTemplate, objectMapper, meterRegistry);
+            default -> throw new IllegalStateException("지원하지 않는 websocket.broker.mode: " + brokerMode);
+        };
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutor("inbound", inboundPoolSize, inboundQueueCapacity))
+                .interceptors(new StompChannelMetrics("inbound", meterRegistry));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutor("outbound", outboundPoolSize, outboundQueueCapacity))
+                .interceptors(new StompChannelMetrics("outbound", meterRegistry));
+    }
+
+    // 채널 실행기 (컨테이너가 clientInbound/OutboundChannelExecutor 빈으로 초기화/종료를 관리)
+    // 큐가 가득 차면 호출한 스레드(웹소켓 I/O 스레드)에서 처리해 클라이언트 수신 속도를 늦춘다
+    private Executor channelExecutor(String channelName, int poolSize, int queueCapacity) {
+        if (virtualThreads) {
+            return new VirtualThreadTaskExecutor("stomp-" + channelName + "-");
+        }
+
+        Counter rejectedCounter = meterRegistry.counter("websocket.channel." + channelName + ".rejected");
+        ThreadPoolExecutor.CallerRunsPolicy callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("stomp-" + channelName + "-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler((runnable, pool) -> {
+            rejectedCounter.increment();
+            callerRuns.rejectedExecution(runnable, pool);
+        });
+
+        Gauge.builder("websocket.channel." + channelName + ".queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .register(meterRegistry);
+        Gauge.builder("websocket.channel." + channelName + ".active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+        return executor;
     }
 
     @Override
@@ -0,0 +1,46 @@
+package com.promisenow.api.domain.availability.codec;
+
+/**
+ * 비트 슬라이스 슬롯 카운터
+ * 슬롯별 선택 인원 수를 비트 평면(planes[k] = 각 슬롯 카운트의 k 번째 비트)으로 보관해서,
+ * 비트셋 하나를 더할 때 슬롯 30개를 한 번에 더한다. (반가산기 체인, 평균 2 평면 정도만 갱신)
+ */
+public final class SlotCounter {
+
+    // 2^31 명까지 표현 가능
+    private static final int MAX_PLANES = 31;
+
+    private final long[] planes = new long[MAX_PLANES];
+    private int usedPlanes;
+
+    /**
+     * 사용자 한 명의 비트셋 추가
+     */
+    public void add(long bits) {
+        long carry = bits & TimeSlotCodec.ALL_SLOTS;
+        for (int k = 0; carry != 0; k++) {
+            long next = planes[k] & carry;
+            planes[k] ^= carry;
+            carry = next;
+            if (k >= usedPlanes) {
+                usedPlanes = k + 1;
+            }
+        }
+    }
+
+    /**
+     * 슬롯별 인원 수
+     */
+    public int[] toCounts() {
+        int[] counts = new int[TimeSlotCodec.SLOT_COUNT];
+        for (int k = 0; k < usedPlanes; k++) {
+            long plane = planes[k];
+            while (plane != 0) {
+                int slot = Long.numberOfTrailingZeros(plane);
+                counts[slot] += 1 << k;
+                plane &= plane - 1;
+            }
+        }
+        return counts;
+    }
+}
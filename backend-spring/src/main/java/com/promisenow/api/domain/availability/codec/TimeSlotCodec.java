@@ -0,0 +1,74 @@
+package com.promisenow.api.domain.availability.codec;
+
+/**
+ * 일정 시간대 비트셋 코덱
+ * 30자리 '0'/'1' 문자열(슬롯 0 = 08:00)을 long 하나로 저장한다. 슬롯 i 는 i 번째 비트.
+ *
+ * <pre>
+ * "1100...0" → 0b...0011 (슬롯 0, 1 선택)
+ * </pre>
+ */
+public final class TimeSlotCodec {
+
+    public static final int SLOT_COUNT = 30;
+
+    // 30개 슬롯 전체
+    public static final long ALL_SLOTS = (1L << SLOT_COUNT) - 1;
+
+    private TimeSlotCodec() {
+    }
+
+    /**
+     * '0'/'1' 문자열 → 비트셋 (30자를 넘는 부분은 무시)
+     */
+    public static long encode(String timeData) {
+        if (timeData == null) {
+            return 0L;
+        }
+        long bits = 0L;
+        int length = Math.min(timeData.length(), SLOT_COUNT);
+        for (int i = 0; i < length; i++) {
+            if (timeData.charAt(i) == '1') {
+                bits |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * 비트셋 → 30자리 '0'/'1' 문자열
+     */
+    public static String decode(long bits) {
+        char[] chars = new char[SLOT_COUNT];
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            chars[i] = (bits & (1L << i)) != 0 ? '1' : '0';
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 슬롯 하나만 켜진 마스크 (DB bitand 조건 등에 사용)
+     */
+    public static long slotMask(int slot) {
+        if (slot < 0 || slot >= SLOT_COUNT) {
+            throw new IllegalArgumentException("slot 범위는 0 ~ " + (SLOT_COUNT - 1) + " 입니다: " + slot);
+        }
+        return 1L << slot;
+    }
+
+    public static boolean isSet(long bits, int slot) {
+        return (bits & slotMask(slot)) != 0;
+    }
+
+    /**
+     * 슬롯별 인원 수 → 슬롯당 한 글자 base-36 문자열 (0-9, a-z)
+     * 9 이하는 기존 숫자 문자열과 같고, 35 를 넘는 값은 'z' 로 표시한다. (정확한 값은 counts 배열 사용)
+     */
+    public static String encodeCounts(int[] counts) {
+        char[] chars = new char[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            chars[i] = Character.forDigit(Math.min(counts[i], Character.MAX_RADIX - 1), Character.MAX_RADIX);
+        }
+        return new String(chars);
+    }
+}
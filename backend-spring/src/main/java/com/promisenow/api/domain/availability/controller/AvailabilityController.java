@@ -16,6 +16,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -129,8 +131,7 @@ public class AvailabilityController {
             @NotNull(message = "roomId는 필수입니다.")
             @RequestParam Long roomId) {
         
-        List<Availability> availabilities = availabilityService.getTotalAvailability(roomId);
-        return ApiUtils.success(availabilityProcessor.processTotalAvailability(availabilities));
+        return ApiUtils.success(availabilityProcessor.processTotalCounts(availabilityService.getTotalCounts(roomId)));
     }
     
     @Operation(
@@ -307,6 +308,28 @@ public class AvailabilityController {
         return ApiUtils.success(responseDto);
     }
 
+    @Operation(summary = "추천 시간 구간 상위 K 개 조회",
+            description = "minSlots(30분 단위) 이상 이어지고, 구간 내내 minAttendees 명 이상이 참석 가능한 구간을 "
+                    + "참석 인원이 많은 순으로 최대 k 개 반환")
+    @GetMapping("/recommend-time/top")
+    public ResponseEntity<ApiUtils.ApiResponse<RecommendationTimeResponseDto>> getTopRecommendationTime(
+            @Parameter(description = "룸 ID", example = "1", required = true)
+            @RequestParam Long roomId,
+            @Parameter(description = "최소 회의 길이 (슬롯 수, 30분 단위)", example = "2")
+            @RequestParam(defaultValue = "1") @Min(1) @Max(30) int minSlots,
+            @Parameter(description = "최소 참석 인원", example = "2")
+            @RequestParam(defaultValue = "1") @Min(1) int minAttendees,
+            @Parameter(description = "반환할 최대 구간 수", example = "5")
+            @RequestParam(defaultValue = "5") @Min(1) @Max(50) int k) {
+
+        List<RecommendationTimeResponseDto.RecommendationData> recommendationData =
+                availabilityService.getTopRecommendationTime(roomId, minSlots, minAttendees, k);
+
+        return ApiUtils.success(RecommendationTimeResponseDto.builder()
+                .times(recommendationData)
+                .build());
+    }
+
     @Operation(
             summary = "특정 날짜 선택자 전체 조회",
             description = "특정 날짜에 하나 이상의 시간을 선택한 사용자 목록을 조회합니다."
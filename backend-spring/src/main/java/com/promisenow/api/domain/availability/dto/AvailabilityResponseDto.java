@@ -57,7 +57,11 @@ public class AvailabilityResponseDto {
             @JsonFormat(pattern = "yyyy-MM-dd")
             private LocalDate date;
             
-            @Schema(description = "누적된 시간대 데이터 (각 숫자는 해당 시간대를 선택한 사용자 수)", example = "222211112222111122221111222211")
+            @Schema(description = "시간대별 선택 인원 수 (30개, 슬롯 0 = 08:00)", example = "[2,2,2,2,1,1,1,1,2,2,2,2,1,1,1,1,2,2,2,2,1,1,1,1,2,2,2,2,1,1]")
+            private int[] counts;
+
+            @Schema(description = "누적된 시간대 데이터 (슬롯당 한 글자 base-36, 9 이하는 숫자 그대로, 35 초과는 z). counts 사용 권장",
+                    example = "222211112222111122221111222211")
             private String timeData;
         }
     }
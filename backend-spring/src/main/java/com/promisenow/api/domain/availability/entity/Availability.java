@@ -1,5 +1,6 @@
 package com.promisenow.api.domain.availability.entity;
 
+import com.promisenow.api.domain.availability.codec.TimeSlotCodec;
 import com.promisenow.api.domain.room.entity.RoomUser;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -28,7 +29,18 @@ public class Availability {
     
     @Column(name = "timedata", columnDefinition = "TEXT", nullable = false)
     private String timeData;
+
+    // timeData 의 비트셋 표현 (슬롯 i = i 번째 비트, TimeSlotCodec). 집계/슬롯 필터는 이 컬럼을 사용
+    @Column(name = "time_bits", columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long timeBits;
     
     @Column(name = "date", nullable = false)
     private LocalDate date;
+
+    // 저장 전에 문자열에서 비트셋을 계산 (기존 문자열 API 는 그대로 유지)
+    @PrePersist
+    @PreUpdate
+    protected void syncTimeBits() {
+        this.timeBits = TimeSlotCodec.encode(timeData);
+    }
 } 
\ No newline at end of file
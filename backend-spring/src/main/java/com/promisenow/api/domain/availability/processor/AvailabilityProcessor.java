@@ -6,6 +6,7 @@ import com.promisenow.api.domain.availability.entity.Availability;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Availability 도메인 데이터 처리 및 변환을 담당하는 프로세서
@@ -22,6 +23,16 @@ public interface AvailabilityProcessor {
      * 전체 누적 데이터 조회 - 도메인 객체를 응답 DTO로 변환
      */
     AvailabilityResponseDto.TotalAvailabilityResponse processTotalAvailability(List<Availability> availabilities);
+
+    /**
+     * 날짜별 슬롯 인원 수 집계 (날짜 오름차순)
+     */
+    Map<LocalDate, int[]> countByDate(List<Availability> availabilities);
+
+    /**
+     * 날짜별 슬롯 인원 수 → 전체 누적 데이터 응답 DTO
+     */
+    AvailabilityResponseDto.TotalAvailabilityResponse processTotalCounts(Map<LocalDate, int[]> countsByDate);
     
     /**
      * 선택한 사용자 목록 - 도메인 객체를 응답 DTO로 변환
@@ -1,17 +1,22 @@
 package com.promisenow.api.domain.availability.processor;
 
+import com.promisenow.api.domain.availability.codec.SlotCounter;
+import com.promisenow.api.domain.availability.codec.TimeSlotCodec;
 import com.promisenow.api.domain.availability.dto.AvailabilityRequestDto;
 import com.promisenow.api.domain.availability.dto.AvailabilityResponseDto;
 import com.promisenow.api.domain.availability.entity.Availability;
 import com.promisenow.api.domain.room.entity.RoomUser;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 /**
@@ -20,6 +25,44 @@ import java.util.stream.Collectors;
  */
 @Component
 public class AvailabilityProcessorImpl implements AvailabilityProcessor {
+
+    // 전체 행 수가 이 값 이상이면 날짜 블록 단위로 병렬 집계, 0 이하면 항상 순차 집계
+    // 기본값은 순차: 방 최대 9명 × 한 달 ≒ 300행의 순차 집계(약 5µs)가 fork/join 한 번의 비용과 비슷함 (AvailabilityAggregationBenchmark)
+    @Value("${availability.aggregation.parallel-threshold:0}")
+    private int parallelThreshold;
+
+    // 병렬 집계시 한 작업이 맡는 최대 날짜 수
+    @Value("${availability.aggregation.dates-per-task:8}")
+    private int datesPerTask;
+
+    // 0 이면 CPU 코어 수
+    @Value("${availability.aggregation.parallelism:0}")
+    private int parallelism;
+
+    // 요청 스레드와 공용 풀(commonPool)을 막지 않도록 집계 전용 풀 사용 (병렬 집계를 처음 할 때 생성)
+    private volatile ForkJoinPool aggregationPool;
+
+    @PreDestroy
+    protected void shutdown() {
+        ForkJoinPool pool = aggregationPool;
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private ForkJoinPool aggregationPool() {
+        ForkJoinPool pool = aggregationPool;
+        if (pool == null) {
+            synchronized (this) {
+                pool = aggregationPool;
+                if (pool == null) {
+                    pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+                    aggregationPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
     
     @Override
     public AvailabilityResponseDto.MyAvailabilityResponse processMyAvailability(List<Availability> availabilities) {
@@ -38,6 +81,11 @@ public class AvailabilityProcessorImpl implements AvailabilityProcessor {
     
     @Override
     public AvailabilityResponseDto.TotalAvailabilityResponse processTotalAvailability(List<Availability> availabilities) {
+        return processTotalCounts(countByDate(availabilities));
+    }
+
+    @Override
+    public Map<LocalDate, int[]> countByDate(List<Availability> availabilities) {
         // 날짜별로 그룹화
         Map<LocalDate, List<Availability>> availabilitiesByDate = availabilities.stream()
                 .collect(Collectors.groupingBy(
@@ -45,13 +93,38 @@ public class AvailabilityProcessorImpl implements AvailabilityProcessor {
                     TreeMap::new,
                     Collectors.toList()
                 ));
-        
+
         // 누적 데이터 계산
-        List<AvailabilityResponseDto.TotalAvailabilityResponse.DateTotalData> totalDatas = 
-                availabilitiesByDate.entrySet().stream()
-                        .map(this::calculateTotalDataForDate)
+        Map<LocalDate, int[]> countsByDate = new TreeMap<>();
+        if (parallelThreshold <= 0 || availabilities.size() < parallelThreshold
+                || availabilitiesByDate.size() <= datesPerTask) {
+            availabilitiesByDate.forEach((date, dateAvailabilities) ->
+                    countsByDate.put(date, calculateCountsForDate(dateAvailabilities)));
+            return countsByDate;
+        }
+
+        // 날짜별 결과는 서로 독립이므로 날짜 블록으로 나눠 fork/join 으로 계산
+        List<LocalDate> dates = List.copyOf(availabilitiesByDate.keySet());
+        int[][] counts = new int[dates.size()][];
+        aggregationPool().invoke(new DateBlockTask(dates, availabilitiesByDate, counts, 0, dates.size()));
+        for (int i = 0; i < dates.size(); i++) {
+            countsByDate.put(dates.get(i), counts[i]);
+        }
+        return countsByDate;
+    }
+
+    @Override
+    public AvailabilityResponseDto.TotalAvailabilityResponse processTotalCounts(Map<LocalDate, int[]> countsByDate) {
+        // 인원 수 배열을 그대로 전달하고, 기존 문자열 형식은 슬롯당 한 글자(base-36)로 함께 제공
+        List<AvailabilityResponseDto.TotalAvailabilityResponse.DateTotalData> totalDatas =
+                countsByDate.entrySet().stream()
+                        .map(entry -> AvailabilityResponseDto.TotalAvailabilityResponse.DateTotalData.builder()
+                                .date(entry.getKey())
+                                .counts(entry.getValue())
+                                .timeData(TimeSlotCodec.encodeCounts(entry.getValue()))
+                                .build())
                         .toList();
-        
+
         return AvailabilityResponseDto.TotalAvailabilityResponse.builder()
                 .totalDatas(totalDatas)
                 .build();
@@ -76,32 +149,48 @@ public class AvailabilityProcessorImpl implements AvailabilityProcessor {
     }
     
     /**
-     * 특정 날짜의 누적 데이터 계산
+     * 날짜 구간 [from, to) 의 슬롯별 인원 수 계산 작업
+     * datesPerTask 이하가 될 때까지 반으로 나누고, 각 작업은 자기 구간의 counts 칸에만 쓴다.
      */
-    private AvailabilityResponseDto.TotalAvailabilityResponse.DateTotalData calculateTotalDataForDate(
-            Map.Entry<LocalDate, List<Availability>> entry) {
-        
-        LocalDate date = entry.getKey();
-        List<Availability> dateAvailabilities = entry.getValue();
-        
-        // 30개 슬롯에 대한 누적 데이터 계산
-        int[] totalSlots = new int[30];
-        
-        for (Availability availability : dateAvailabilities) {
-            String timeData = availability.getTimeData();
-            for (int i = 0; i < Math.min(timeData.length(), 30); i++) {
-                totalSlots[i] += timeData.charAt(i) == '1' ? 1 : 0;
+    private class DateBlockTask extends RecursiveAction {
+
+        private final List<LocalDate> dates;
+        private final Map<LocalDate, List<Availability>> availabilitiesByDate;
+        private final int[][] counts;
+        private final int from;
+        private final int to;
+
+        DateBlockTask(List<LocalDate> dates, Map<LocalDate, List<Availability>> availabilitiesByDate,
+                      int[][] counts, int from, int to) {
+            this.dates = dates;
+            this.availabilitiesByDate = availabilitiesByDate;
+            this.counts = counts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= Math.max(1, datesPerTask)) {
+                for (int i = from; i < to; i++) {
+                    counts[i] = calculateCountsForDate(availabilitiesByDate.get(dates.get(i)));
+                }
+                return;
             }
+            int mid = (from + to) >>> 1;
+            invokeAll(new DateBlockTask(dates, availabilitiesByDate, counts, from, mid),
+                    new DateBlockTask(dates, availabilitiesByDate, counts, mid, to));
         }
-        
-        // 결과를 문자열로 변환
-        String timeData = Arrays.stream(totalSlots)
-            .mapToObj(String::valueOf)
-            .collect(Collectors.joining());
-        
-        return AvailabilityResponseDto.TotalAvailabilityResponse.DateTotalData.builder()
-                .date(date)
-                .timeData(timeData)
-                .build();
     }
-} 
\ No newline at end of file
+
+    /**
+     * 특정 날짜의 슬롯별 인원 수 계산 (비트셋을 비트 슬라이스 카운터로 한 번에 더함)
+     */
+    private int[] calculateCountsForDate(List<Availability> dateAvailabilities) {
+        SlotCounter counter = new SlotCounter();
+        for (Availability availability : dateAvailabilities) {
+            counter.add(availability.getTimeBits());
+        }
+        return counter.toCounts();
+    }
+}
@@ -0,0 +1,95 @@
+package com.promisenow.api.domain.availability.processor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 최소 길이/최소 인원 조건을 만족하는 추천 시간 구간 상위 K 개 선정
+ * 날짜마다 길이 minSlots 창의 최소 인원(창 안에서 모두 참석 가능한 인원)을 단조 덱으로 구하고,
+ * 같은 인원이 이어지는 창은 하나의 구간으로 합친 뒤 크기 K 의 힙으로 상위 구간만 남긴다.
+ * 전체 정렬 없이 O(날짜 × 슬롯 × log K).
+ */
+public final class TopKRecommender {
+
+    /**
+     * 추천 구간 [startSlot, endSlot) 과 구간 내내 참석 가능한 인원 수
+     */
+    public record Window(LocalDate date, int startSlot, int endSlot, int count) {}
+
+    // 인원 많은 순 → 날짜 빠른 순 → 시작 시간 빠른 순 (기존 추천 정렬과 동일)
+    private static final Comparator<Window> BEST_FIRST = Comparator
+            .comparingInt(Window::count).reversed()
+            .thenComparing(Window::date)
+            .thenComparingInt(Window::startSlot);
+
+    private TopKRecommender() {
+    }
+
+    public static List<Window> topK(Map<LocalDate, int[]> countsByDate, int minSlots, int minAttendees, int k) {
+        // 가장 나쁜 구간이 맨 위에 오는 힙
+        PriorityQueue<Window> heap = new PriorityQueue<>(k + 1, BEST_FIRST.reversed());
+
+        countsByDate.forEach((date, counts) -> collect(date, counts, minSlots, minAttendees, k, heap));
+
+        List<Window> result = new ArrayList<>(heap);
+        result.sort(BEST_FIRST);
+        return result;
+    }
+
+    private static void collect(LocalDate date, int[] counts, int minSlots, int minAttendees, int k,
+                                PriorityQueue<Window> heap) {
+        if (minSlots > counts.length) {
+            return;
+        }
+
+        // 창 안 최소값 후보 인덱스 (counts 오름차순 유지)
+        int[] deque = new int[counts.length];
+        int head = 0;
+        int tail = 0;
+
+        int runStart = -1;
+        int runCount = -1;
+
+        for (int i = 0; i < counts.length; i++) {
+            while (tail > head && counts[deque[tail - 1]] >= counts[i]) {
+                tail--;
+            }
+            deque[tail++] = i;
+            if (deque[head] <= i - minSlots) {
+                head++;
+            }
+            if (i < minSlots - 1) {
+                continue;
+            }
+
+            int start = i - minSlots + 1;
+            int windowMin = counts[deque[head]];
+            int count = windowMin >= minAttendees && windowMin > 0 ? windowMin : -1;
+
+            // 같은 인원이 이어지는 창은 하나의 구간으로 합침
+            if (count != runCount) {
+                if (runCount > 0) {
+                    offer(heap, new Window(date, runStart, start - 1 + minSlots, runCount), k);
+                }
+                runStart = start;
+                runCount = count;
+            }
+        }
+        if (runCount > 0) {
+            offer(heap, new Window(date, runStart, counts.length, runCount), k);
+        }
+    }
+
+    private static void offer(PriorityQueue<Window> heap, Window window, int k) {
+        if (heap.size() < k) {
+            heap.add(window);
+        } else if (BEST_FIRST.compare(window, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(window);
+        }
+    }
+}
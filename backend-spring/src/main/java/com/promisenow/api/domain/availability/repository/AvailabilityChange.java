@@ -0,0 +1,28 @@
+package com.promisenow.api.domain.availability.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 한 사용자의 하루 일정 변경 (히트맵 증분 갱신용)
+ * newRow 면 해당 날짜에 일정 행이 새로 생긴 것.
+ */
+public record AvailabilityChange(LocalDate date, long oldBits, long newBits, boolean newRow) {
+
+    /**
+     * 새로 선택한 슬롯
+     */
+    public long addedBits() {
+        return newBits & ~oldBits;
+    }
+
+    /**
+     * 선택을 해제한 슬롯
+     */
+    public long removedBits() {
+        return oldBits & ~newBits;
+    }
+
+    public boolean isEmpty() {
+        return !newRow && oldBits == newBits;
+    }
+}
@@ -0,0 +1,37 @@
+package com.promisenow.api.domain.availability.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 방별 날짜 × 슬롯 선택 인원 수 (일정 저장 시 변경분만 반영해서, 조회 때 전체 일정을 다시 집계하지 않도록 함)
+ */
+public interface AvailabilityHeatmapRepository {
+
+    /**
+     * 날짜별 슬롯 인원 수 (날짜 오름차순), 시드되지 않은 방이면 empty
+     */
+    Optional<Map<LocalDate, int[]>> find(Long roomId);
+
+    /**
+     * DB 에서 집계한 값으로 시드 (이미 있거나 최근 일정 쓰기가 있었으면 무시)
+     */
+    void seed(Long roomId, Map<LocalDate, int[]> countsByDate);
+
+    /**
+     * 일정 쓰기 시작 표시 (쓰기 도중 읽은 DB 값으로 시드되지 않도록 함)
+     */
+    void markWriting(Long roomId);
+
+    /**
+     * 커밋된 변경분 반영 (시드되지 않은 방이면 무시)
+     */
+    void apply(Long roomId, List<AvailabilityChange> changes);
+
+    /**
+     * 히트맵 제거 (쓰기 표시가 만료된 뒤 조회에서 다시 시드)
+     */
+    void invalidate(Long roomId);
+}
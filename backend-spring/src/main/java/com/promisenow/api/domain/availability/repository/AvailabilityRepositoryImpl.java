@@ -1,5 +1,6 @@
 package com.promisenow.api.domain.availability.repository;
 
+import com.promisenow.api.domain.availability.codec.TimeSlotCodec;
 import com.promisenow.api.domain.availability.dto.AvailabilityResponseDto;
 import com.promisenow.api.domain.availability.entity.QAvailability;
 import com.promisenow.api.domain.room.entity.QRoom;
@@ -37,10 +38,10 @@ public class AvailabilityRepositoryImpl implements AvailabilityRepositoryCustom
                 .where(
                         room.roomId.eq(roomId),
                         availability.date.eq(date),
-                        // DB에서 직접 특정 슬롯의 값이 '1'인지 확인
-                        // substring은 1-based index이므로 slot + 1 사용
-                        Expressions.stringTemplate("substring({0}, {1}, 1)", availability.timeData, slot + 1)
-                                .eq("1")
+                        // 비트셋에서 해당 슬롯 비트가 켜져 있는지 확인
+                        Expressions.numberTemplate(Long.class, "bitand({0}, {1})",
+                                        availability.timeBits, TimeSlotCodec.slotMask(slot))
+                                .ne(0L)
                 )
                 .fetch();
     }
@@ -63,7 +64,7 @@ public class AvailabilityRepositoryImpl implements AvailabilityRepositoryCustom
                 .where(
                         room.roomId.eq(roomId),
                         availability.date.eq(date),
-                        availability.timeData.contains("1")
+                        availability.timeBits.ne(0L)
                 )
                 .fetch();
     }
@@ -0,0 +1,153 @@
+package com.promisenow.api.domain.availability.repository;
+
+import com.promisenow.api.domain.availability.codec.TimeSlotCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Redis HASH 기반 일정 히트맵
+ *
+ * <pre>
+ * availability:room:{roomId}:heatmap
+ *   _seeded        시드 완료 표시
+ *   {date}:n       해당 날짜에 일정 행이 있는지 (0 보다 크면 응답에 포함, 모두 0 인 날짜도 포함)
+ *   {date}:{slot}  해당 슬롯 선택 인원 수 (없으면 0)
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisAvailabilityHeatmapRepository implements AvailabilityHeatmapRepository {
+
+    private static final RedisScript<Long> APPLY_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/availability-heatmap-apply.lua"), Long.class);
+
+    private static final RedisScript<Long> SEED_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/availability-heatmap-seed.lua"), Long.class);
+
+    private static final String SEEDED_FIELD = "_seeded";
+    private static final String ROWS_SUFFIX = "n";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${availability.heatmap.ttl-seconds:604800}")
+    private long ttlSeconds;
+
+    // 일정 쓰기 후 이 시간 동안은 시드하지 않음 (트랜잭션 최대 길이보다 길게)
+    @Value("${availability.heatmap.write-guard-ms:30000}")
+    private long writeGuardMillis;
+
+    @Override
+    public Optional<Map<LocalDate, int[]>> find(Long roomId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(heatmapKey(roomId));
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<LocalDate, int[]> countsByDate = new TreeMap<>();
+        Map<LocalDate, Integer> rowsByDate = new TreeMap<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = (String) entry.getKey();
+            if (SEEDED_FIELD.equals(field)) {
+                continue;
+            }
+            int separator = field.lastIndexOf(':');
+            LocalDate date = LocalDate.parse(field.substring(0, separator));
+            String slot = field.substring(separator + 1);
+            int value = Integer.parseInt((String) entry.getValue());
+
+            if (ROWS_SUFFIX.equals(slot)) {
+                rowsByDate.put(date, value);
+            } else {
+                countsByDate.computeIfAbsent(date, d -> new int[TimeSlotCodec.SLOT_COUNT])[Integer.parseInt(slot)] = value;
+            }
+        }
+
+        // 일정 행이 있는 날짜만 응답 (모두 0 인 날짜도 포함)
+        Map<LocalDate, int[]> result = new TreeMap<>();
+        rowsByDate.forEach((date, rows) -> {
+            if (rows > 0) {
+                result.put(date, countsByDate.getOrDefault(date, new int[TimeSlotCodec.SLOT_COUNT]));
+            }
+        });
+        return Optional.of(result);
+    }
+
+    @Override
+    public void seed(Long roomId, Map<LocalDate, int[]> countsByDate) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds * 1000));
+        countsByDate.forEach((date, counts) -> {
+            args.add(date + ":" + ROWS_SUFFIX);
+            args.add("1");
+            for (int slot = 0; slot < counts.length; slot++) {
+                if (counts[slot] != 0) {
+                    args.add(date + ":" + slot);
+                    args.add(String.valueOf(counts[slot]));
+                }
+            }
+        });
+        stringRedisTemplate.execute(SEED_SCRIPT, List.of(heatmapKey(roomId), writingKey(roomId)), args.toArray());
+    }
+
+    @Override
+    public void markWriting(Long roomId) {
+        stringRedisTemplate.opsForValue().set(writingKey(roomId), "1", Duration.ofMillis(writeGuardMillis));
+    }
+
+    @Override
+    public void apply(Long roomId, List<AvailabilityChange> changes) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds * 1000));
+        for (AvailabilityChange change : changes) {
+            if (change.isEmpty()) {
+                continue;
+            }
+            if (change.newRow()) {
+                args.add(change.date() + ":" + ROWS_SUFFIX);
+                args.add("1");
+            }
+            addSlotDeltas(args, change.date(), change.addedBits(), 1);
+            addSlotDeltas(args, change.date(), change.removedBits(), -1);
+        }
+        if (args.size() == 1) {
+            return;
+        }
+        stringRedisTemplate.execute(APPLY_SCRIPT, List.of(heatmapKey(roomId)), args.toArray());
+    }
+
+    @Override
+    public void invalidate(Long roomId) {
+        // 커밋 전에 지워도 이전 값으로 다시 시드되지 않도록 쓰기 표시도 함께 남김
+        markWriting(roomId);
+        stringRedisTemplate.delete(heatmapKey(roomId));
+    }
+
+    private static void addSlotDeltas(List<String> args, LocalDate date, long bits, int delta) {
+        while (bits != 0) {
+            int slot = Long.numberOfTrailingZeros(bits);
+            args.add(date + ":" + slot);
+            args.add(String.valueOf(delta));
+            bits &= bits - 1;
+        }
+    }
+
+    private static String heatmapKey(Long roomId) {
+        return "availability:room:" + roomId + ":heatmap";
+    }
+
+    private static String writingKey(Long roomId) {
+        return "availability:room:" + roomId + ":heatmap:writing";
+    }
+}
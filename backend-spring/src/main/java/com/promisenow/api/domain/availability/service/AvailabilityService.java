@@ -7,6 +7,7 @@ import com.promisenow.api.domain.availability.entity.Availability;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 public interface AvailabilityService {
     
@@ -15,6 +16,9 @@ public interface AvailabilityService {
     
     // 전체 누적 데이터 조회 - 도메인 객체 반환
     List<Availability> getTotalAvailability(Long roomId);
+
+    // 날짜별 슬롯 인원 수 조회 (히트맵, 없으면 DB 집계 후 시드)
+    Map<LocalDate, int[]> getTotalCounts(Long roomId);
     
     // 특정 시간대 선택자 조회 - DTO 직접 반환 (QueryDSL 최적화)
     List<AvailabilityResponseDto.ConfirmedUsersResponse.UserInfo> getSelectedUsers(Long roomId, LocalDate date, int slot);
@@ -31,6 +35,9 @@ public interface AvailabilityService {
     // 추천 날짜 조회
     List<RecommendationTimeResponseDto.RecommendationData> getRecommendationTime(Long roomId);
 
+    // 추천 시간 구간 상위 K 개 조회 (minSlots 이상 이어지고 minAttendees 명 이상이 모두 참석 가능한 구간)
+    List<RecommendationTimeResponseDto.RecommendationData> getTopRecommendationTime(Long roomId, int minSlots, int minAttendees, int k);
+
     // 특정 날짜 선택자 조회
     List<AvailabilityResponseDto.ConfirmedUsersResponse.UserInfo> getSelectedUsersByDate(Long roomId, LocalDate date);
 } 
\ No newline at end of file
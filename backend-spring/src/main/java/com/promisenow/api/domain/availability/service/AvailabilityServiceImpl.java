@@ -1,24 +1,34 @@
 package com.promisenow.api.domain.availability.service;
 
+import com.promisenow.api.domain.availability.codec.TimeSlotCodec;
 import com.promisenow.api.domain.availability.dto.AvailabilityRequestDto;
 import com.promisenow.api.domain.availability.dto.AvailabilityResponseDto;
 import com.promisenow.api.domain.availability.dto.RecommendationTimeResponseDto;
 import com.promisenow.api.domain.availability.entity.Availability;
 import com.promisenow.api.domain.availability.processor.AvailabilityProcessor;
+import com.promisenow.api.domain.availability.processor.TopKRecommender;
+import com.promisenow.api.domain.availability.repository.AvailabilityChange;
+import com.promisenow.api.domain.availability.repository.AvailabilityHeatmapRepository;
 import com.promisenow.api.domain.availability.repository.AvailabilityRepository;
 import com.promisenow.api.domain.room.entity.RoomUser;
 import com.promisenow.api.domain.room.repository.RoomUserRepository;
+import com.promisenow.api.infrastructure.redis.RedisHealthMonitor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AvailabilityServiceImpl implements AvailabilityService {
@@ -26,6 +36,8 @@ public class AvailabilityServiceImpl implements AvailabilityService {
     private final AvailabilityRepository availabilityRepository;
     private final RoomUserRepository roomUserRepository;
     private final AvailabilityProcessor availabilityProcessor;
+    private final AvailabilityHeatmapRepository availabilityHeatmapRepository;
+    private final RedisHealthMonitor redisHealthMonitor;
     private static final int START_HOUR = 8;
 
     @Override
@@ -39,6 +51,28 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         // 모든 사용자의 일정 데이터 조회
         return availabilityRepository.findAllByRoomId(roomId);
     }
+
+    @Override
+    public Map<LocalDate, int[]> getTotalCounts(Long roomId) {
+        if (!redisHealthMonitor.isAvailable()) {
+            return availabilityProcessor.countByDate(getTotalAvailability(roomId));
+        }
+
+        try {
+            Optional<Map<LocalDate, int[]>> cached = availabilityHeatmapRepository.find(roomId);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+
+            // 히트맵이 없으면 전체 일정을 한 번 집계해서 시드 (최근 쓰기가 있었으면 시드는 건너뜀)
+            Map<LocalDate, int[]> counts = availabilityProcessor.countByDate(getTotalAvailability(roomId));
+            availabilityHeatmapRepository.seed(roomId, counts);
+            return counts;
+        } catch (RuntimeException e) {
+            log.warn("일정 히트맵 조회 실패, DB 집계: roomId={}, error={}", roomId, e.getMessage());
+            return availabilityProcessor.countByDate(getTotalAvailability(roomId));
+        }
+    }
     
     @Override
     public List<AvailabilityResponseDto.ConfirmedUsersResponse.UserInfo> getSelectedUsers(Long roomId, LocalDate date, int slot) {
@@ -47,14 +81,22 @@ public class AvailabilityServiceImpl implements AvailabilityService {
     }
     
     @Override
+    @Transactional
     public void saveAvailability(Long roomUserId, LocalDate date, String timeData) {
-        // 기존 일정이 있는지 확인
-        RoomUser roomUser = roomUserRepository.findById(roomUserId)
+        // 참여자 행을 잠가 같은 참여자의 동시 저장이 같은 기존 비트셋을 읽고 변경분을 겹쳐 반영하지 않도록 함
+        // (기존 일정 행이 아직 없는 날짜도 함께 직렬화되도록 일정 행 대신 참여자 행을 잠금)
+        RoomUser roomUser = roomUserRepository.findByIdForUpdate(roomUserId)
                 .orElseThrow(() -> new IllegalArgumentException("RoomUser not found: " + roomUserId));
+        Long roomId = roomUser.getRoom().getRoomId();
+        markHeatmapWriting(roomId);
         
         // 해당 날짜의 기존 일정 조회
         List<Availability> existingAvailabilities = availabilityRepository
                 .findByRoomUserRoomUserIdAndDate(roomUserId, date);
+
+        // 저장 전에 기존 비트셋 보관 (save 의 merge 가 영속 상태의 기존 엔티티를 새 값으로 덮어씀)
+        boolean newRow = existingAvailabilities.isEmpty();
+        long oldBits = newRow ? 0L : existingAvailabilities.getFirst().getTimeBits();
         
         Availability availability;
         if (!existingAvailabilities.isEmpty()) {
@@ -76,6 +118,9 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         }
         
         availabilityRepository.save(availability);
+
+        applyHeatmapAfterCommit(roomId, List.of(new AvailabilityChange(
+                date, oldBits, TimeSlotCodec.encode(timeData), newRow)));
     }
     
     @Override
@@ -84,9 +129,11 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         Long roomUserId = request.getRoomUserId();
         List<AvailabilityRequestDto.DateAvailabilityData> updatedDataList = request.getUpdatedDataList();
         
-        // RoomUser 조회
-        RoomUser roomUser = roomUserRepository.findById(roomUserId)
+        // RoomUser 잠금 조회 (saveAvailability 와 같은 이유)
+        RoomUser roomUser = roomUserRepository.findByIdForUpdate(roomUserId)
                 .orElseThrow(() -> new IllegalArgumentException("RoomUser not found: " + roomUserId));
+        Long roomId = roomUser.getRoom().getRoomId();
+        markHeatmapWriting(roomId);
         
         // 업데이트할 날짜들
         List<LocalDate> updateDates = updatedDataList.stream()
@@ -100,6 +147,10 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         // 날짜별로 기존 데이터 매핑
         Map<LocalDate, Availability> existingByDate = existingAvailabilities.stream()
                 .collect(Collectors.toMap(Availability::getDate, availability -> availability));
+
+        // 저장 전에 기존 비트셋 보관 (saveAll 의 merge 가 영속 상태의 기존 엔티티를 새 값으로 덮어씀)
+        Map<LocalDate, Long> oldBitsByDate = existingAvailabilities.stream()
+                .collect(Collectors.toMap(Availability::getDate, Availability::getTimeBits));
         
         // 배치 업데이트할 일정 리스트 생성
         List<Availability> availabilitiesToSave = updatedDataList.stream()
@@ -130,28 +181,66 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         
         // 배치 저장
         availabilityRepository.saveAll(availabilitiesToSave);
-    }
 
-    @Override
-    public List<RecommendationTimeResponseDto.RecommendationData> getRecommendationTime(Long roomId) {
+        // 기존 비트셋과 비교한 변경분만 히트맵에 반영
+        List<AvailabilityChange> changes = updatedDataList.stream()
+                .map(data -> {
+                    Long oldBits = oldBitsByDate.get(data.getDate());
+                    return new AvailabilityChange(
+                            data.getDate(),
+                            oldBits != null ? oldBits : 0L,
+                            TimeSlotCodec.encode(data.getTimeData()),
+                            oldBits == null);
+                })
+                .toList();
+        applyHeatmapAfterCommit(roomId, changes);
+    }
 
-        List<Availability> all = getTotalAvailability(roomId);
+    // 일정 쓰기 시작 표시 (실패해도 저장은 진행)
+    private void markHeatmapWriting(Long roomId) {
+        try {
+            availabilityHeatmapRepository.markWriting(roomId);
+        } catch (RuntimeException e) {
+            log.warn("일정 히트맵 쓰기 표시 실패: roomId={}, error={}", roomId, e.getMessage());
+        }
+    }
 
-        AvailabilityResponseDto.TotalAvailabilityResponse totalResponse =
-                availabilityProcessor.processTotalAvailability(all);
+    // 커밋된 뒤에 변경분 반영 (롤백되면 반영하지 않음). 반영에 실패하면 히트맵을 지워 다음 조회에서 다시 시드
+    private void applyHeatmapAfterCommit(Long roomId, List<AvailabilityChange> changes) {
+        Runnable apply = () -> {
+            try {
+                availabilityHeatmapRepository.apply(roomId, changes);
+            } catch (RuntimeException e) {
+                log.warn("일정 히트맵 갱신 실패: roomId={}, error={}", roomId, e.getMessage());
+                try {
+                    availabilityHeatmapRepository.invalidate(roomId);
+                } catch (RuntimeException ignored) {
+                    // Redis 장애 중이면 TTL 만료 후 다시 시드
+                }
+            }
+        };
 
-        List<RecommendationTimeResponseDto.RecommendationData> result = new ArrayList<>();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
 
+    @Override
+    public List<RecommendationTimeResponseDto.RecommendationData> getRecommendationTime(Long roomId) {
 
-        for (AvailabilityResponseDto.TotalAvailabilityResponse.DateTotalData data : totalResponse.getTotalDatas()) {
+        // 히트맵의 날짜별 인원 수로 계산 (전체 일정 행을 다시 읽지 않음)
+        Map<LocalDate, int[]> countsByDate = getTotalCounts(roomId);
 
-            int[] counts = data.getTimeData()
-                    .chars()
-                    .map(c -> c - '0')
-                    .toArray();
+        List<RecommendationTimeResponseDto.RecommendationData> result = new ArrayList<>();
 
-            result.addAll(mergeContinuous(data.getDate(), counts));
-        }
+        countsByDate.forEach((date, counts) -> result.addAll(mergeContinuous(date, counts)));
 
         result.sort(Comparator
                 .comparingInt(RecommendationTimeResponseDto.RecommendationData::getCount).reversed()
@@ -161,6 +250,14 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         return result;
     }
 
+    @Override
+    public List<RecommendationTimeResponseDto.RecommendationData> getTopRecommendationTime(Long roomId, int minSlots, int minAttendees, int k) {
+        // 전체 구간을 만들어 정렬하지 않고 크기 K 힙으로 상위 구간만 선정
+        return TopKRecommender.topK(getTotalCounts(roomId), minSlots, minAttendees, k).stream()
+                .map(window -> buildSlot(window.date(), window.startSlot(), window.endSlot(), window.count()))
+                .toList();
+    }
+
     private List<RecommendationTimeResponseDto.RecommendationData> mergeContinuous(LocalDate date, int[] counts) {
         List<RecommendationTimeResponseDto.RecommendationData> merged = new ArrayList<>();
         int start = -1;
@@ -4,6 +4,7 @@ import com.promisenow.api.common.ApiUtils;
 import com.promisenow.api.infrastructure.file.dto.FileUploadRequest;
 import com.promisenow.api.infrastructure.file.dto.FileUploadResponse;
 import com.promisenow.api.domain.chat.dto.ImageResponseDto;
+import com.promisenow.api.domain.chat.dto.MessagePageResponseDto;
 import com.promisenow.api.domain.chat.dto.MessageResponseDto;
 import com.promisenow.api.domain.chat.entity.Image;
 import com.promisenow.api.domain.chat.repository.ImageRepository;
@@ -16,11 +17,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.io.File;
@@ -61,6 +64,46 @@ public class ChatController {
         return ApiUtils.success(messages);
     }
 
+    @Operation(
+            summary = "채팅 메시지 페이지 조회",
+            description = "(전송 시각, 메시지 ID) 키셋 커서로 메시지를 페이지 단위로 반환합니다. "
+                    + "before 는 더 오래된 메시지, after 는 더 최신 메시지를 조회하며 둘 다 없으면 최신 페이지를 반환합니다. "
+                    + "before 와 after 를 함께 보내면 INVALID_CURSOR 오류입니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "메시지 조회 성공",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = MessagePageResponseDto.class))),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+            }
+    )
+    @GetMapping("/{roomId}/messages/page")
+    public ResponseEntity<ApiUtils.ApiResponse<MessagePageResponseDto>> getMessagePage(
+            @Parameter(description = "채팅방 ID", example = "1") @PathVariable Long roomId,
+            @Parameter(description = "이 커서보다 오래된 메시지 조회") @RequestParam(required = false) String before,
+            @Parameter(description = "이 커서보다 최신 메시지 조회") @RequestParam(required = false) String after,
+            @Parameter(description = "페이지 크기 (최대 200)", example = "50") @RequestParam(defaultValue = "50") int size) {
+
+        return ApiUtils.success(chatService.getMessagePage(roomId, before, after, size));
+    }
+
+    @Operation(
+            summary = "채팅 메시지 내보내기",
+            description = "채팅방의 전체 메시지를 오래된 순서의 JSON 배열로 스트리밍합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "내보내기 성공")
+            }
+    )
+    @GetMapping(value = "/{roomId}/messages/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMessages(
+            @Parameter(description = "채팅방 ID", example = "1") @PathVariable Long roomId) {
+
+        StreamingResponseBody body = out -> chatService.exportMessages(roomId, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"chat-" + roomId + ".json\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     @PostMapping(
             value = "/upload/image",
             consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
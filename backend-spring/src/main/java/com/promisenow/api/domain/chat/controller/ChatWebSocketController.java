@@ -2,10 +2,11 @@ package com.promisenow.api.domain.chat.controller;
 
 import com.promisenow.api.domain.chat.dto.MessageRequestDto;
 import com.promisenow.api.domain.chat.service.ChatService;
+import com.promisenow.api.domain.chat.service.PinoReplyService;
 import com.promisenow.api.domain.chat.dto.MessageResponseDto;
+import com.promisenow.api.infrastructure.websocket.TopicPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.util.Comparator;
@@ -16,7 +17,8 @@ import java.util.List;
 public class ChatWebSocketController {
     //[클라이언트] → "/app/chat" → [서버 @MessageMapping] → "/topic/chat" → [구독 중인 클라이언트들]
     private final ChatService chatService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final PinoReplyService pinoReplyService;
+    private final TopicPublisher topicPublisher;
     // /app이 생략 실제는 /app/chat
     //@MessageMapping("/chat") //스프링에서 먼저 받는 주소(메세지 처리)
 
@@ -30,7 +32,12 @@ public class ChatWebSocketController {
         Long roomId=request.getRoomId();
 
         for (MessageResponseDto dto : messages) {
-            messagingTemplate.convertAndSend("/topic/chat/"+roomId, dto);
+            topicPublisher.publish("/topic/chat/"+roomId, dto);
+        }
+
+        // 피노 응답은 사용자 메시지 전송 후 별도 스레드에서 생성되어 같은 토픽으로 전송됨
+        if (PinoReplyService.isCommand(request.getContent())) {
+            pinoReplyService.requestReply(roomId, request.getContent());
         }
     }
 }
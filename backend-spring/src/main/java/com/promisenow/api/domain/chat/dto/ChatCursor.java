@@ -0,0 +1,45 @@
+package com.promisenow.api.domain.chat.dto;
+
+import com.promisenow.api.common.AppException;
+import com.promisenow.api.common.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 채팅 키셋 페이지네이션 커서 (sent_date, message_id)
+ * 클라이언트에는 불투명한 Base64 URL-safe 문자열로 전달한다.
+ */
+public record ChatCursor(LocalDateTime sentDate, Long messageId) {
+
+    private static final String SEPARATOR = "_";
+
+    public static ChatCursor of(MessageResponseDto message) {
+        return new ChatCursor(message.getSentDate(), message.getMessageId());
+    }
+
+    public String encode() {
+        String raw = sentDate + SEPARATOR + messageId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (null/빈 값은 null, 형식이 잘못되면 INVALID_CURSOR)
+     */
+    public static ChatCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            return new ChatCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
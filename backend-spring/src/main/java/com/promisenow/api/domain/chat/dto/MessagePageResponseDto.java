@@ -0,0 +1,29 @@
+package com.promisenow.api.domain.chat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "채팅 메시지 페이지 응답 DTO")
+public class MessagePageResponseDto {
+
+    @Schema(description = "메시지 목록 (전송 시각 오름차순)")
+    private List<MessageResponseDto> messages;
+
+    @Schema(description = "이전(더 오래된) 메시지 조회용 커서 - before 파라미터로 전달")
+    private String prevCursor;
+
+    @Schema(description = "다음(더 최신) 메시지 조회용 커서 - after 파라미터로 전달")
+    private String nextCursor;
+
+    @Schema(description = "조회한 방향으로 메시지가 더 있는지 여부")
+    private boolean hasMore;
+}
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 public class MessageResponseDto {
+    private Long messageId;
     private String content;
     private Long roomUserId;
     private Long userId;
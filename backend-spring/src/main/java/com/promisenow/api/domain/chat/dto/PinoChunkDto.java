@@ -0,0 +1,32 @@
+package com.promisenow.api.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 피노 스트리밍 응답 조각 (gms.stream=true 일 때 /topic/chat/{roomId} 로 전송)
+ * 같은 correlationId 의 조각을 seq 순서대로 이어붙여 표시하고,
+ * done=true 조각 직후 저장된 최종 메시지(MessageResponseDto, 같은 messageId)가 전송된다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PinoChunkDto {
+
+    // 일반 메시지와 구분하기 위한 값 (항상 "PINO_CHUNK")
+    @Builder.Default
+    private String kind = "PINO_CHUNK";
+
+    private String correlationId;
+    private Long roomUserId;
+    private String nickname;
+    private int seq;
+    private String delta;
+    private boolean done;
+
+    // done=true 일 때 저장된 메시지 ID
+    private Long messageId;
+}
@@ -11,15 +11,18 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat")
+@Table(name = "chat", indexes = {
+        // 키셋 페이지네이션 (sent_date, message_id) 정렬/범위 조회용
+        @Index(name = "idx_chat_sent_date_message_id", columnList = "sent_date, message_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Chat {
 
+    // ChatIdGenerator 가 애플리케이션에서 발급 (배치 INSERT 를 위해 IDENTITY 사용하지 않음)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "message_id", nullable = false)
     private Long messageId;
 
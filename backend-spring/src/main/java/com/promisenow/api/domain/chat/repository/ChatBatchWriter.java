@@ -0,0 +1,80 @@
+package com.promisenow.api.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 채팅/이미지 행 JDBC 배치 저장
+ * message_id 는 ChatIdGenerator 가 미리 발급하므로 생성 키 조회 없이 한 번에 묶어 보낼 수 있다.
+ * (MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 를 주면 다중 VALUES INSERT 로 재작성됨)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatBatchWriter {
+
+    private static final String INSERT_CHAT =
+            "INSERT INTO chat (message_id, room_user_id, content, type, sent_date) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_IMAGE =
+            "INSERT INTO image (message_id, image_url, location_lat, location_lng, sent_date) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_STORED =
+            "SELECT room_user_id, content FROM chat WHERE message_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 채팅 행을 먼저, 이미지 행을 이어서 한 트랜잭션으로 저장
+     */
+    @Transactional
+    public void insertAll(List<ChatInsert> chats) {
+        jdbcTemplate.batchUpdate(INSERT_CHAT, chats, chats.size(), (ps, chat) -> {
+            ps.setLong(1, chat.messageId());
+            ps.setLong(2, chat.roomUserId());
+            ps.setString(3, chat.content());
+            ps.setString(4, chat.type().name());
+            ps.setTimestamp(5, Timestamp.valueOf(chat.sentDate()));
+        });
+
+        List<ChatInsert> images = chats.stream().filter(ChatInsert::hasImage).toList();
+        if (images.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_IMAGE, images, images.size(), (ps, chat) -> {
+            ps.setLong(1, chat.messageId());
+            ps.setString(2, chat.imageUrl());
+            setNullableDouble(ps, 3, chat.lat());
+            setNullableDouble(ps, 4, chat.lng());
+            ps.setTimestamp(5, Timestamp.valueOf(chat.sentDate()));
+        });
+    }
+
+    /**
+     * 같은 message_id 로 이미 저장된 행이 이 채팅과 같은지 (같은 방 사용자, 같은 내용)
+     * 중복 키 오류가 재시도로 생긴 것인지, 다른 메시지와 ID 가 겹친 것인지 구분할 때 사용한다.
+     */
+    public boolean isStored(ChatInsert chat) {
+        Boolean same = jdbcTemplate.query(SELECT_STORED,
+                rs -> rs.next()
+                        && rs.getLong("room_user_id") == chat.roomUserId()
+                        && Objects.equals(rs.getString("content"), chat.content()),
+                chat.messageId());
+        return Boolean.TRUE.equals(same);
+    }
+
+    private static void setNullableDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DOUBLE);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.promisenow.api.domain.chat.repository;
+
+/**
+ * 저장하지 못한 채팅 보관소 (dead-letter)
+ * 지연 쓰기 버퍼가 다시 시도해도 저장할 수 없는 행을 버리지 않고 원본 그대로 남겨, 원인 해결 후 다시 넣을 수 있게 한다.
+ */
+public interface ChatDeadLetterRepository {
+
+    /**
+     * 저장 실패 행 보관 (보관소도 실패하면 예외 없이 행 전체를 로그로 남김)
+     */
+    void save(ChatInsert chat, String reason);
+}
@@ -0,0 +1,24 @@
+package com.promisenow.api.domain.chat.repository;
+
+import com.promisenow.api.domain.chat.entity.Chat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치로 저장할 채팅 한 건 (이미지 메시지면 image 행도 함께 저장)
+ */
+public record ChatInsert(
+        long messageId,
+        long roomUserId,
+        String content,
+        Chat.ChatType type,
+        LocalDateTime sentDate,
+        String imageUrl,
+        Double lat,
+        Double lng
+) {
+
+    public boolean hasImage() {
+        return imageUrl != null;
+    }
+}
@@ -5,9 +5,6 @@ import com.promisenow.api.domain.chat.entity.Chat;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 @Repository
-public interface ChatRepository extends JpaRepository<Chat, Long> {
-    List<Chat> findByRoomUser_Room_RoomIdOrderBySentDateAsc(Long roomId);
+public interface ChatRepository extends JpaRepository<Chat, Long>, ChatRepositoryCustom {
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.promisenow.api.domain.chat.repository;
+
+import com.promisenow.api.domain.chat.dto.ChatCursor;
+import com.promisenow.api.domain.chat.dto.MessageResponseDto;
+
+import java.util.List;
+
+public interface ChatRepositoryCustom {
+
+    /**
+     * 방의 전체 메시지를 전송 시각 오름차순으로 조회
+     * 발신자 정보와 이미지 URL 까지 단일 쿼리(DTO 프로젝션)로 가져온다.
+     */
+    List<MessageResponseDto> findAllMessages(Long roomId);
+
+    /**
+     * 커서보다 이전(더 오래된) 메시지를 최신순으로 최대 limit 건 조회
+     * @param cursor null 이면 가장 최신 메시지부터
+     */
+    List<MessageResponseDto> findMessagesBefore(Long roomId, ChatCursor cursor, int limit);
+
+    /**
+     * 커서보다 이후(더 최신) 메시지를 오래된 순으로 최대 limit 건 조회
+     * @param cursor null 이면 가장 오래된 메시지부터
+     */
+    List<MessageResponseDto> findMessagesAfter(Long roomId, ChatCursor cursor, int limit);
+}
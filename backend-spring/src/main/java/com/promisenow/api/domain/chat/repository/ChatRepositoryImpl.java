@@ -0,0 +1,100 @@
+package com.promisenow.api.domain.chat.repository;
+
+import com.promisenow.api.domain.chat.dto.ChatCursor;
+import com.promisenow.api.domain.chat.dto.MessageResponseDto;
+import com.promisenow.api.domain.chat.entity.QChat;
+import com.promisenow.api.domain.chat.entity.QImage;
+import com.promisenow.api.domain.room.entity.QRoomUser;
+import com.promisenow.api.domain.user.entity.QUser;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatRepositoryImpl implements ChatRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<MessageResponseDto> findAllMessages(Long roomId) {
+        QChat chat = QChat.chat;
+
+        return selectMessages(roomId, null)
+                .orderBy(chat.sentDate.asc(), chat.messageId.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<MessageResponseDto> findMessagesBefore(Long roomId, ChatCursor cursor, int limit) {
+        QChat chat = QChat.chat;
+        BooleanExpression beforeCursor = cursor == null ? null
+                : chat.sentDate.lt(cursor.sentDate())
+                        .or(chat.sentDate.eq(cursor.sentDate()).and(chat.messageId.lt(cursor.messageId())));
+
+        return findMessages(roomId, beforeCursor, limit, chat.sentDate.desc(), chat.messageId.desc());
+    }
+
+    @Override
+    public List<MessageResponseDto> findMessagesAfter(Long roomId, ChatCursor cursor, int limit) {
+        QChat chat = QChat.chat;
+        BooleanExpression afterCursor = cursor == null ? null
+                : chat.sentDate.gt(cursor.sentDate())
+                        .or(chat.sentDate.eq(cursor.sentDate()).and(chat.messageId.gt(cursor.messageId())));
+
+        return findMessages(roomId, afterCursor, limit, chat.sentDate.asc(), chat.messageId.asc());
+    }
+
+    // (sent_date, message_id) 인덱스를 따라 키셋 조건으로 한 페이지 조회
+    private List<MessageResponseDto> findMessages(Long roomId, BooleanExpression cursorCondition, int limit,
+                                                  OrderSpecifier<?>... orders) {
+        return selectMessages(roomId, cursorCondition)
+                .orderBy(orders)
+                .limit(limit)
+                .fetch();
+    }
+
+    // 메시지 + 발신자 + 이미지 URL 을 한 번에 가져오는 프로젝션 (메시지마다 추가 조회 없음)
+    // 이미지 행이 여러 개인 메시지도 한 행만 나오도록 가장 먼저 저장된 이미지만 조인
+    private JPAQuery<MessageResponseDto> selectMessages(Long roomId, BooleanExpression condition) {
+        QChat chat = QChat.chat;
+        QRoomUser roomUser = QRoomUser.roomUser;
+        QUser user = QUser.user;
+        QImage image = QImage.image;
+        QImage firstImage = new QImage("firstImage");
+
+        return queryFactory
+                .select(Projections.constructor(
+                        MessageResponseDto.class,
+                        chat.messageId,
+                        chat.content,
+                        roomUser.roomUserId,
+                        user.userId,
+                        roomUser.nickname,
+                        chat.sentDate,
+                        chat.type,
+                        image.imageUrl
+                ))
+                .from(chat)
+                .join(chat.roomUser, roomUser)
+                .join(roomUser.user, user)
+                .leftJoin(image).on(
+                        image.chat.eq(chat),
+                        image.imageId.eq(JPAExpressions
+                                .select(firstImage.imageId.min())
+                                .from(firstImage)
+                                .where(firstImage.chat.eq(chat)))
+                )
+                .where(
+                        roomUser.room.roomId.eq(roomId),
+                        condition
+                );
+    }
+}
@@ -0,0 +1,38 @@
+package com.promisenow.api.domain.chat.repository;
+
+import com.promisenow.api.domain.chat.dto.MessageResponseDto;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 방별 최근 메시지 링 버퍼 (채팅방 첫 화면을 DB 조회 없이 제공)
+ */
+public interface RecentMessageRepository {
+
+    /**
+     * 보관하는 최대 메시지 수
+     */
+    int getMaxSize();
+
+    /**
+     * 새 메시지 추가 (최신 maxSize 개만 유지)
+     * 메시지 전송을 막지 않도록 실패해도 예외를 던지지 않고, 해당 방은 다음 조회 때 다시 시드한다.
+     */
+    void append(Long roomId, MessageResponseDto message);
+
+    /**
+     * DB 에서 읽은 최근 메시지로 버퍼를 채우고 시드 완료로 표시 (이미 있는 메시지는 유지)
+     */
+    void seed(Long roomId, List<MessageResponseDto> messages);
+
+    /**
+     * 최신순으로 최대 count 개 조회, 시드되지 않은 방이면 empty
+     */
+    Optional<List<MessageResponseDto>> findLatest(Long roomId, int count);
+
+    /**
+     * 버퍼를 신뢰할 수 없게 되었을 때 시드 완료 표시 제거 (다음 조회에서 다시 시드)
+     */
+    void invalidate(Long roomId);
+}
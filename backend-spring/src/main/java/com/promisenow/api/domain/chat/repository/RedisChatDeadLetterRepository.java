@@ -0,0 +1,36 @@
+package com.promisenow.api.domain.chat.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis 리스트 기반 채팅 dead-letter 보관소
+ * chat:write-behind:dead-letter 에 {chat, reason, failedAt} JSON 을 오래된 순으로 쌓는다. (만료 없음)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisChatDeadLetterRepository implements ChatDeadLetterRepository {
+
+    private static final String DEAD_LETTER_KEY = "chat:write-behind:dead-letter";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private record DeadLetter(ChatInsert chat, String reason, long failedAt) {}
+
+    @Override
+    public void save(ChatInsert chat, String reason) {
+        DeadLetter deadLetter = new DeadLetter(chat, reason, System.currentTimeMillis());
+        try {
+            stringRedisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, objectMapper.writeValueAsString(deadLetter));
+            log.error("채팅 저장 실패, dead-letter 로 이동: messageId={}, reason={}", chat.messageId(), reason);
+        } catch (Exception e) {
+            // 보관소도 쓸 수 없으면 로그가 마지막 기록이므로 행 전체를 남김
+            log.error("채팅 dead-letter 저장 실패: {}, error={}", deadLetter, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.promisenow.api.domain.chat.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.promisenow.api.domain.chat.dto.MessageResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis ZSET 기반 최근 메시지 링 버퍼
+ * 메시지 ID(53비트, 시간순)를 score 로, 응답 JSON 을 멤버로 저장해 최신 maxSize 개만 유지한다.
+ * 시드 완료 표시 키가 있을 때만 버퍼를 완전한 최근 이력으로 간주한다.
+ * 추가에 실패한 방은 버퍼에 빠진 메시지가 있을 수 있으므로 곧바로 Redis 의 시드 표시를 지워 모든 인스턴스가 DB 에서 다시 채우게 한다.
+ * 시드 표시 삭제까지 실패하면 로컬에 남겨 두고 다음 접근 또는 주기 작업에서 다시 지운다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisRecentMessageRepository implements RecentMessageRepository {
+
+    private static final RedisScript<Long> WRITE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/chat-recent-write.lua"), Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/chat-recent-read.lua"), List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.recent.max-size:100}")
+    private int maxSize;
+
+    @Value("${chat.recent.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    // 추가 실패 후 시드 표시 삭제까지 실패한 방 (Redis 복구 후 다시 삭제)
+    private final Set<Long> staleRooms = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public void append(Long roomId, MessageResponseDto message) {
+        try {
+            clearIfStale(roomId);
+            write(roomId, List.of(message), false);
+        } catch (RuntimeException e) {
+            log.warn("최근 메시지 추가 실패: roomId={}, error={}", roomId, e.getMessage());
+            markStale(roomId);
+        }
+    }
+
+    @Override
+    public void seed(Long roomId, List<MessageResponseDto> messages) {
+        write(roomId, messages, true);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<List<MessageResponseDto>> findLatest(Long roomId, int count) {
+        clearIfStale(roomId);
+        List<String> values = stringRedisTemplate.execute(READ_SCRIPT,
+                List.of(messagesKey(roomId), seededKey(roomId)),
+                String.valueOf(count));
+        if (values == null) {
+            return Optional.empty();
+        }
+
+        List<MessageResponseDto> messages = new ArrayList<>(values.size());
+        for (String value : values) {
+            try {
+                messages.add(objectMapper.readValue(value, MessageResponseDto.class));
+            } catch (JsonProcessingException e) {
+                // 형식이 바뀐 이전 데이터 등은 버퍼 전체를 다시 시드
+                log.warn("최근 메시지 역직렬화 실패, 재시드: roomId={}", roomId);
+                invalidate(roomId);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(messages);
+    }
+
+    @Override
+    public void invalidate(Long roomId) {
+        stringRedisTemplate.delete(seededKey(roomId));
+    }
+
+    /**
+     * 시드 표시 삭제에 실패했던 방을 다시 처리 (접근이 없는 방도 다른 인스턴스가 재시드하도록)
+     */
+    @Scheduled(fixedDelayString = "${chat.recent.stale-retry-ms:5000}")
+    public void retryStaleRooms() {
+        for (Long roomId : staleRooms) {
+            try {
+                clearIfStale(roomId);
+            } catch (RuntimeException e) {
+                log.debug("시드 표시 삭제 재시도 실패: roomId={}, error={}", roomId, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    // 다른 인스턴스도 재시드하도록 Redis 의 시드 표시를 지우고, 실패하면 로컬 재시도 대상으로 남김
+    private void markStale(Long roomId) {
+        try {
+            invalidate(roomId);
+        } catch (RuntimeException e) {
+            staleRooms.add(roomId);
+        }
+    }
+
+    private void clearIfStale(Long roomId) {
+        if (staleRooms.contains(roomId)) {
+            invalidate(roomId);
+            staleRooms.remove(roomId);
+        }
+    }
+
+    private void write(Long roomId, List<MessageResponseDto> messages, boolean seed) {
+        List<String> args = new ArrayList<>(3 + messages.size() * 2);
+        args.add(String.valueOf(maxSize));
+        args.add(String.valueOf(ttlSeconds * 1000));
+        args.add(seed ? "1" : "0");
+        for (MessageResponseDto message : messages) {
+            try {
+                args.add(String.valueOf(message.getMessageId()));
+                args.add(objectMapper.writeValueAsString(message));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("메시지 직렬화 실패: messageId=" + message.getMessageId(), e);
+            }
+        }
+
+        stringRedisTemplate.execute(WRITE_SCRIPT,
+                List.of(messagesKey(roomId), seededKey(roomId)),
+                args.toArray());
+    }
+
+    private static String messagesKey(Long roomId) {
+        return "chat:room:" + roomId + ":recent";
+    }
+
+    private static String seededKey(Long roomId) {
+        return "chat:room:" + roomId + ":recent:seeded";
+    }
+}
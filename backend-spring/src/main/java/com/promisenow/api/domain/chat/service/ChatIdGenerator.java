@@ -0,0 +1,167 @@
+package com.promisenow.api.domain.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 ID 발급기 (시간순 정렬되는 53비트 ID)
+ * DB IDENTITY 대신 애플리케이션에서 ID 를 정해 두어야 INSERT 를 JDBC 배치로 묶을 수 있다.
+ *
+ * <pre>
+ * [41비트: 2025-01-01 기준 경과 ms][4비트: 노드 ID][8비트: ms 내 순번]
+ * </pre>
+ * 53비트 이내라 JavaScript number 로도 정확히 표현되며, 기존 IDENTITY 값보다 항상 크다.
+ *
+ * 노드 ID 는 인스턴스마다 달라야 한다. chat.id.node-id 를 지정하지 않으면 Redis 에서 비어 있는 번호를
+ * TTL 이 있는 키로 임대하고 주기적으로 연장하며, 임대할 수 없으면 기동에 실패한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatIdGenerator {
+
+    private static final long EPOCH_MILLIS = 1735689600000L; // 2025-01-01T00:00:00Z
+    private static final int NODE_BITS = 4;
+    private static final int SEQUENCE_BITS = 8;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String LEASE_KEY_PREFIX = "chat:id:node:";
+
+    private static final RedisScript<Long> RENEW_LEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/chat-id-lease-renew.lua"), Long.class);
+
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/chat-id-lease-release.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 인스턴스마다 다른 값 (0 ~ 15), 지정하지 않으면(-1) Redis 에서 임대
+    @Value("${chat.id.node-id:-1}")
+    private long configuredNodeId;
+
+    // 임대 TTL, 연장 주기(chat.id.node-lease-renew-ms)보다 충분히 길게
+    @Value("${chat.id.node-lease-ttl-ms:30000}")
+    private long leaseTtlMs;
+
+    private final String leaseToken = UUID.randomUUID().toString();
+
+    private long nodeId;
+    private String leaseKey;
+    // 임대를 잃고 다시 얻지 못한 상태 (ID 가 겹칠 수 있으므로 발급하지 않음)
+    private boolean leaseLost;
+
+    private long lastMillis = -1L;
+    private long sequence;
+
+    @PostConstruct
+    protected void init() {
+        if (configuredNodeId >= 0) {
+            if (configuredNodeId > MAX_NODE_ID) {
+                throw new IllegalStateException("chat.id.node-id 는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + configuredNodeId);
+            }
+            nodeId = configuredNodeId;
+            log.info("채팅 ID 노드 번호 (설정값): nodeId={}", nodeId);
+            return;
+        }
+
+        try {
+            if (!acquireLease()) {
+                throw new IllegalStateException("임대 가능한 채팅 ID 노드 번호가 없습니다 (0 ~ " + MAX_NODE_ID + " 모두 사용 중)");
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("채팅 ID 노드 번호를 임대하지 못했습니다. chat.id.node-id 를 지정하거나 Redis 를 확인하세요", e);
+        }
+    }
+
+    /**
+     * 임대 연장, 다른 인스턴스가 가져갔으면 다른 번호를 다시 임대
+     * Redis 오류 시에는 현재 번호를 유지한다. (TTL 안에 연장되지 않으면 다른 인스턴스가 가져갈 수 있음)
+     */
+    @Scheduled(fixedDelayString = "${chat.id.node-lease-renew-ms:10000}")
+    public synchronized void renewLease() {
+        if (leaseKey == null && !leaseLost) {
+            return;
+        }
+        try {
+            if (!leaseLost) {
+                Long renewed = stringRedisTemplate.execute(RENEW_LEASE_SCRIPT, List.of(leaseKey),
+                        leaseToken, String.valueOf(leaseTtlMs));
+                if (renewed != null && renewed == 1L) {
+                    return;
+                }
+                log.error("채팅 ID 노드 번호 임대를 잃음, 다시 임대: nodeId={}", nodeId);
+                leaseLost = true;
+            }
+            if (acquireLease()) {
+                leaseLost = false;
+            } else {
+                log.error("임대 가능한 채팅 ID 노드 번호가 없어 메시지 ID 발급을 멈춤");
+            }
+        } catch (RuntimeException e) {
+            log.warn("채팅 ID 노드 번호 임대 연장 실패: nodeId={}, error={}", nodeId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    protected synchronized void releaseLease() {
+        if (leaseKey == null || leaseLost) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), leaseToken);
+        } catch (RuntimeException e) {
+            log.warn("채팅 ID 노드 번호 반납 실패 (TTL 후 만료): nodeId={}, error={}", nodeId, e.getMessage());
+        }
+    }
+
+    public synchronized long nextId() {
+        if (leaseLost) {
+            throw new IllegalStateException("채팅 ID 노드 번호 임대가 없어 메시지 ID 를 발급할 수 없습니다");
+        }
+        // 시계가 뒤로 가도 마지막 시각을 유지해 ID 가 줄어들지 않도록 함
+        long now = Math.max(System.currentTimeMillis(), lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms 안의 순번을 모두 쓰면 다음 ms 까지 대기
+                while (now <= lastMillis) {
+                    Thread.onSpinWait();
+                    now = System.currentTimeMillis();
+                }
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    // 비어 있는 번호를 앞에서부터 SET NX 로 임대
+    private synchronized boolean acquireLease() {
+        for (long candidate = 0; candidate <= MAX_NODE_ID; candidate++) {
+            String key = LEASE_KEY_PREFIX + candidate;
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(key, leaseToken, Duration.ofMillis(leaseTtlMs));
+            if (Boolean.TRUE.equals(acquired)) {
+                nodeId = candidate;
+                leaseKey = key;
+                log.info("채팅 ID 노드 번호 임대: nodeId={}", nodeId);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,13 +1,26 @@
 package com.promisenow.api.domain.chat.service;
 
 
+import com.promisenow.api.domain.chat.dto.MessagePageResponseDto;
 import com.promisenow.api.domain.chat.dto.MessageRequestDto;
 import com.promisenow.api.domain.chat.dto.MessageResponseDto;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ChatService {
     List<MessageResponseDto> saveMessagePair(MessageRequestDto messageRequestDto);
     List<MessageResponseDto> getMessages(Long roomId);
+
+    /**
+     * 키셋 커서 기반 메시지 페이지 조회 (before: 더 오래된 메시지, after: 더 최신 메시지, 둘 다 없으면 최신 페이지)
+     */
+    MessagePageResponseDto getMessagePage(Long roomId, String before, String after, int size);
+
+    /**
+     * 방의 전체 메시지를 JSON 배열로 스트리밍 (내보내기용)
+     */
+    void exportMessages(Long roomId, OutputStream out) throws IOException;
 }
 
@@ -1,32 +1,48 @@
 package com.promisenow.api.domain.chat.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.promisenow.api.common.AppException;
+import com.promisenow.api.common.ErrorCode;
+import com.promisenow.api.domain.chat.dto.ChatCursor;
+import com.promisenow.api.domain.chat.dto.MessagePageResponseDto;
 import com.promisenow.api.domain.chat.dto.MessageRequestDto;
 import com.promisenow.api.domain.chat.dto.MessageResponseDto;
 import com.promisenow.api.domain.chat.entity.Chat;
-import com.promisenow.api.domain.chat.entity.Image;
+import com.promisenow.api.domain.chat.repository.ChatInsert;
 import com.promisenow.api.domain.chat.repository.ChatRepository;
-import com.promisenow.api.domain.chat.repository.ImageRepository;
+import com.promisenow.api.domain.chat.repository.RecentMessageRepository;
 import com.promisenow.api.domain.room.entity.RoomUser;
 import com.promisenow.api.domain.room.repository.RoomUserRepository;
-import com.promisenow.api.domain.user.entity.User;
-import com.promisenow.api.domain.user.repository.UserRepository;
+import com.promisenow.api.infrastructure.redis.RedisHealthMonitor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService {
 
     private final ChatRepository chatRepository;
-    private final ImageRepository imageRepository;
     private final RoomUserRepository roomUserRepository;
-    private final NanoGptService nanoGptService;
-    private final UserRepository userRepository;
+    private final ChatIdGenerator chatIdGenerator;
+    private final ChatWriteBehindBuffer chatWriteBehindBuffer;
+    private final RecentMessageRepository recentMessageRepository;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int EXPORT_CHUNK_SIZE = 500;
 
     @Override
     public List<MessageResponseDto> saveMessagePair(MessageRequestDto req) {
@@ -38,128 +54,132 @@ public class ChatServiceImpl implements ChatService {
         }
         RoomUser roomUser = roomUserOpt.get();
 
-        // @PINO 명령어 처리
-        if (req.getContent() != null && req.getContent().startsWith("@피노")) {
-            // 1. 사용자 명령 메시지 DB 저장 및 DTO 생성
-            Chat userChat = chatRepository.save(Chat.builder()
-                    .roomUser(roomUser)
-                    .content(req.getContent())
-                    .type(Chat.ChatType.TEXT) // 명령 메시지는 일반 TEXT
-                    .sentDate(now)
-                    .build());
-            result.add(new MessageResponseDto(
-                    userChat.getContent(),
-                    roomUser.getRoomUserId(),
-                    roomUser.getUser().getUserId(),
-                    roomUser.getNickname(),
-                    userChat.getSentDate(),
-                    Chat.ChatType.TEXT,
-                    null
-            ));
-
-            // 2. 현재 채팅방의 피노(RoomUser) 찾기, 없다면 만들기 (userId = -1)
-            RoomUser pinoUser = roomUserRepository
-                    .findByRoom_RoomIdAndUser_UserId(roomUser.getRoom().getRoomId(), -1L)
-                    .orElseGet(() -> {
-                        // User 엔티티 userId = -1 불러오기
-                        User pinoAccount = userRepository.findById(-1L)
-                                .orElseThrow(() -> new IllegalStateException("PINO User(-1) 계정이 없습니다, 먼저 만드세요!"));
-                        RoomUser newPinoRoomUser = RoomUser.builder()
-                                .room(roomUser.getRoom())
-                                .user(pinoAccount)
-                                .nickname("피노")
-                                .isAgreed(false)
-                                .build();
-                        return roomUserRepository.save(newPinoRoomUser);
-                    });
-
-            // 3. 피노 응답 생성 및 저장/DTO 생성
-            String prompt = req.getContent().replaceFirst("@피노", "").trim();
-            String gptReply;
-            try {
-                gptReply = nanoGptService.generateGptReply(prompt);
-            } catch (Exception e) {
-                gptReply = "AI 서버 오류: 잠시 후 다시 시도해 주세요.";
-            }
-
-            // 4. 피노 답변 저장
-            Chat aiChat = chatRepository.save(Chat.builder()
-                    .roomUser(pinoUser)
-                    .content(gptReply)
-                    .type(Chat.ChatType.PINO)
-                    .sentDate(now)
-                    .build());
-            result.add(new MessageResponseDto(
-                    gptReply,
-                    pinoUser.getRoomUserId(),
-                    pinoUser.getUser().getUserId(),
-                    pinoUser.getNickname(),
-                    aiChat.getSentDate(),
-                    Chat.ChatType.PINO,
-                    null
-            ));
-            return result;
-        }
-
         // 일반 메시지(이미지 포함)에 대한 처리
-        Chat.ChatType msgType = req.getType() != null ? req.getType() : Chat.ChatType.TEXT;
-        Chat chat = chatRepository.save(Chat.builder()
-                .roomUser(roomUser)
-                .content(req.getContent())
-                .type(msgType)
-                .sentDate(now)
-                .build());
-
-        String imageUrl = null;
-        if (msgType == Chat.ChatType.IMAGE && req.getImageUrl() != null) {
-            imageUrl = req.getImageUrl();
-
-            // Image 엔티티에 위치 정보 직접 필드로 저장
-            Image image = Image.builder()
-                    .chat(chat)
-                    .imageUrl(imageUrl)
-                    .lat(req.getLat())
-                    .lng(req.getLng())
-                    .sentDate(now)
-                    .build();
-            imageRepository.save(image);
-        }
-        result.add(new MessageResponseDto(
-                chat.getContent(),
+        // "@피노" 명령 메시지는 일반 TEXT 로 저장하고, 응답은 PinoReplyService 가 비동기로 전송
+        Chat.ChatType msgType = PinoReplyService.isCommand(req.getContent()) ? Chat.ChatType.TEXT
+                : req.getType() != null ? req.getType() : Chat.ChatType.TEXT;
+        String imageUrl = msgType == Chat.ChatType.IMAGE ? req.getImageUrl() : null;
+
+        // ID 를 먼저 발급해 바로 응답/브로드캐스트하고, 저장은 지연 쓰기 버퍼가 배치로 처리
+        // 이미지 메시지면 위치 정보와 함께 image 행도 같은 배치에 저장
+        long messageId = chatIdGenerator.nextId();
+        chatWriteBehindBuffer.enqueue(new ChatInsert(
+                messageId,
+                roomUser.getRoomUserId(),
+                req.getContent(),
+                msgType,
+                now,
+                imageUrl,
+                req.getLat(),
+                req.getLng()
+        ));
+
+        MessageResponseDto saved = new MessageResponseDto(
+                messageId,
+                req.getContent(),
                 roomUser.getRoomUserId(),
                 roomUser.getUser().getUserId(),
                 roomUser.getNickname(),
-                chat.getSentDate(),
+                now,
                 msgType,
                 imageUrl
-        ));
+        );
+        recentMessageRepository.append(roomUser.getRoom().getRoomId(), saved);
+
+        result.add(saved);
         return result;
     }
 
 
     @Override
     public List<MessageResponseDto> getMessages(Long roomId) {
-        List<Chat> chats = chatRepository.findByRoomUser_Room_RoomIdOrderBySentDateAsc(roomId);
-        return chats.stream().map(
-                chat -> {
-                    String imageUrl = null;
-                    if (chat.getType() == Chat.ChatType.IMAGE) {
-                        Image image = imageRepository.findByChat_MessageId(chat.getMessageId());
-                        if (image != null) {
-                            imageUrl = image.getImageUrl();
-                        }
-                    }
-                    return new MessageResponseDto(
-                            chat.getContent(),
-                            chat.getRoomUser().getRoomUserId(),
-                            chat.getRoomUser().getUser().getUserId(),
-                            chat.getRoomUser().getNickname(),
-                            chat.getSentDate(),
-                            chat.getType(),
-                            imageUrl
-
-                    );
-                }).toList();
+        // 발신자/이미지 URL 까지 단일 쿼리로 조회 (메시지 수와 무관하게 쿼리 1회)
+        return chatRepository.findAllMessages(roomId);
+    }
 
+    @Override
+    public MessagePageResponseDto getMessagePage(Long roomId, String before, String after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 번에 한 방향으로만 조회
+        if (StringUtils.hasText(before) && StringUtils.hasText(after)) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+        ChatCursor beforeCursor = ChatCursor.decode(before);
+        ChatCursor afterCursor = ChatCursor.decode(after);
+
+        // 한 건 더 조회해서 해당 방향으로 남은 메시지가 있는지 판단
+        List<MessageResponseDto> messages;
+        if (afterCursor != null) {
+            messages = new ArrayList<>(chatRepository.findMessagesAfter(roomId, afterCursor, pageSize + 1));
+        } else if (beforeCursor == null) {
+            // 가장 최신 페이지 (채팅방 첫 화면)는 최근 메시지 버퍼에서 조회
+            messages = new ArrayList<>(findLatestMessages(roomId, pageSize + 1));
+        } else {
+            messages = new ArrayList<>(chatRepository.findMessagesBefore(roomId, beforeCursor, pageSize + 1));
+        }
+
+        boolean hasMore = messages.size() > pageSize;
+        if (hasMore) {
+            messages.remove(messages.size() - 1);
+        }
+        if (afterCursor == null) {
+            // 최신순으로 조회했으므로 응답은 오름차순으로 뒤집음
+            Collections.reverse(messages);
+        }
+
+        return MessagePageResponseDto.builder()
+                .messages(messages)
+                .prevCursor(messages.isEmpty() ? before : ChatCursor.of(messages.get(0)).encode())
+                .nextCursor(messages.isEmpty() ? after : ChatCursor.of(messages.get(messages.size() - 1)).encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // 최신순으로 최대 limit 개 조회. 버퍼가 비어 있으면 DB 에서 채우고, Redis 를 쓸 수 없으면 DB 로 조회
+    private List<MessageResponseDto> findLatestMessages(Long roomId, int limit) {
+        if (limit > recentMessageRepository.getMaxSize() || !redisHealthMonitor.isAvailable()) {
+            return chatRepository.findMessagesBefore(roomId, null, limit);
+        }
+
+        try {
+            Optional<List<MessageResponseDto>> cached = recentMessageRepository.findLatest(roomId, limit);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+
+            List<MessageResponseDto> latest = chatRepository.findMessagesBefore(roomId, null, recentMessageRepository.getMaxSize());
+            recentMessageRepository.seed(roomId, latest);
+            // 시드 사이에 추가된 메시지까지 합쳐진 버퍼를 다시 조회
+            return recentMessageRepository.findLatest(roomId, limit)
+                    .orElseGet(() -> latest.subList(0, Math.min(limit, latest.size())));
+        } catch (RuntimeException e) {
+            log.warn("최근 메시지 버퍼 조회 실패, DB 조회: roomId={}, error={}", roomId, e.getMessage());
+            return chatRepository.findMessagesBefore(roomId, null, limit);
+        }
+    }
+
+    @Override
+    public void exportMessages(Long roomId, OutputStream out) throws IOException {
+        // 전체 이력을 한 번에 올리지 않고 키셋 단위로 끊어 읽으며 JSON 배열로 바로 기록 (힙 사용량 일정)
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림은 컨테이너가 닫음
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+
+            ChatCursor cursor = null;
+            List<MessageResponseDto> chunk;
+            do {
+                chunk = chatRepository.findMessagesAfter(roomId, cursor, EXPORT_CHUNK_SIZE);
+                for (MessageResponseDto message : chunk) {
+                    objectMapper.writeValue(generator, message);
+                }
+                if (!chunk.isEmpty()) {
+                    cursor = ChatCursor.of(chunk.get(chunk.size() - 1));
+                }
+                generator.flush();
+            } while (chunk.size() == EXPORT_CHUNK_SIZE);
+
+            generator.writeEndArray();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,268 @@
+package com.promisenow.api.domain.chat.service;
+
+import com.promisenow.api.domain.chat.repository.ChatBatchWriter;
+import com.promisenow.api.domain.chat.repository.ChatDeadLetterRepository;
+import com.promisenow.api.domain.chat.repository.ChatInsert;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 지연 쓰기(write-behind) 버퍼
+ * 메시지는 큐에 넣자마자 브로드캐스트되고, 전용 스레드가 큐를 모아 JDBC 배치로 저장한다.
+ * 큐가 가득 차면 호출 스레드에서 바로 저장하고(역압), 종료 시에는 남은 메시지를 모두 저장한 뒤 멈춘다.
+ * DB 일시 장애(연결 실패, 타임아웃, 락 경합 등)는 같은 배치를 지수 백오프로 계속 재시도하고,
+ * 다시 시도해도 성공할 수 없는 행(제약 조건 위반, 다른 메시지와의 message_id 충돌 등)만 dead-letter 보관소로 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatWriteBehindBuffer {
+
+    private final ChatBatchWriter chatBatchWriter;
+    private final ChatDeadLetterRepository chatDeadLetterRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.write-behind.batch-size:500}")
+    private int batchSize;
+
+    // 큐가 비어 있지 않아도 이 간격마다 한 번은 저장
+    @Value("${chat.write-behind.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${chat.write-behind.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    // 일시 장애 재시도 간격 (실패할 때마다 두 배, 최대 retry-max-backoff-ms)
+    @Value("${chat.write-behind.retry-initial-backoff-ms:200}")
+    private long retryInitialBackoffMs;
+
+    @Value("${chat.write-behind.retry-max-backoff-ms:30000}")
+    private long retryMaxBackoffMs;
+
+    private BlockingQueue<ChatInsert> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private Counter enqueuedCounter;
+    private Counter directWriteCounter;
+    private Counter retryCounter;
+    private Counter deadLetterCounter;
+    private Counter duplicateCounter;
+    private Timer flushTimer;
+
+    @PostConstruct
+    protected void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        enqueuedCounter = meterRegistry.counter("chat.write-behind.enqueued");
+        directWriteCounter = meterRegistry.counter("chat.write-behind.direct");
+        retryCounter = meterRegistry.counter("chat.write-behind.retry");
+        deadLetterCounter = meterRegistry.counter("chat.write-behind.dead-letter");
+        duplicateCounter = meterRegistry.counter("chat.write-behind.duplicate");
+        flushTimer = meterRegistry.timer("chat.write-behind.flush");
+        Gauge.builder("chat.write-behind.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+
+        running = true;
+        writerThread = new Thread(this::runWriter, "chat-write-behind");
+        writerThread.setDaemon(false);
+        writerThread.start();
+    }
+
+    /**
+     * 종료 시 남은 메시지를 모두 저장 (최대 shutdown-timeout-ms 대기)
+     */
+    @PreDestroy
+    protected void shutdown() throws InterruptedException {
+        // 진행 중인 JDBC 호출을 끊지 않도록 interrupt 없이 플래그만 내리고, 스레드가 남은 큐를 비울 때까지 대기
+        running = false;
+        writerThread.join(shutdownTimeoutMs);
+
+        // 제한 시간 안에 끝나지 않았거나 종료 직전에 들어온 메시지는 현재 스레드에서 저장
+        if (!queue.isEmpty()) {
+            flushRemaining();
+        }
+        log.info("채팅 지연 쓰기 버퍼 종료: remaining={}", queue.size());
+    }
+
+    /**
+     * 채팅 저장 요청 (큐가 가득 찼거나 종료 중이면 바로 저장)
+     * 바로 저장하다 일시 장애를 만나면 호출 스레드를 붙잡지 않도록 dead-letter 로 보낸다.
+     */
+    public void enqueue(ChatInsert chat) {
+        if (running && queue.offer(chat)) {
+            enqueuedCounter.increment();
+            return;
+        }
+        directWriteCounter.increment();
+        deadLetterAll(write(List.of(chat)), "DB 일시 장애 중 큐 가득 참");
+    }
+
+    private void runWriter() {
+        List<ChatInsert> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ChatInsert first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("채팅 지연 쓰기 스레드 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+        flushRemaining();
+    }
+
+    private void flushRemaining() {
+        List<ChatInsert> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            deadLetterAll(write(batch), "종료 시 DB 일시 장애");
+            batch.clear();
+        }
+    }
+
+    /**
+     * 배치 저장, 일시 장애로 남은 행은 성공할 때까지 백오프하며 재시도 (그동안 새 메시지는 큐에 쌓임)
+     * 종료가 시작되면 한 번 더 시도한 뒤 남은 행은 dead-letter 로 보냄
+     */
+    private void writeWithRetry(List<ChatInsert> batch) throws InterruptedException {
+        List<ChatInsert> pending = write(batch);
+        long backoffMs = retryInitialBackoffMs;
+        while (!pending.isEmpty() && running) {
+            retryCounter.increment();
+            log.warn("DB 일시 장애로 채팅 저장 재시도 대기: pending={}, backoffMs={}, queueDepth={}",
+                    pending.size(), backoffMs, queue.size());
+            try {
+                sleepWhileRunning(backoffMs);
+            } catch (InterruptedException e) {
+                deadLetterAll(pending, "재시도 대기 중 인터럽트");
+                throw e;
+            }
+            backoffMs = Math.min(backoffMs * 2, retryMaxBackoffMs);
+            pending = write(pending);
+        }
+        if (!pending.isEmpty()) {
+            deadLetterAll(write(pending), "종료 시 DB 일시 장애");
+        }
+    }
+
+    // 종료가 시작되면 바로 깨어나도록 flush-interval 단위로 나눠 대기
+    private void sleepWhileRunning(long millis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        long remaining;
+        while (running && (remaining = deadline - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(flushIntervalMs)));
+        }
+    }
+
+    /**
+     * 배치 저장, 실패하면 한 건씩 다시 저장해 문제가 되는 행만 dead-letter 로 보냄
+     * @return 일시 장애로 저장하지 못한 행 (다시 시도해야 함)
+     */
+    private List<ChatInsert> write(List<ChatInsert> batch) {
+        try {
+            flushTimer.record(() -> chatBatchWriter.insertAll(batch));
+            return List.of();
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                return batch;
+            }
+            if (batch.size() == 1) {
+                ChatInsert chat = batch.get(0);
+                if (e instanceof DuplicateKeyException) {
+                    return resolveDuplicate(chat);
+                }
+                deadLetterAll(batch, e.getClass().getSimpleName() + ": " + e.getMessage());
+                return List.of();
+            }
+            log.warn("채팅 배치 저장 실패, 한 건씩 재시도: size={}, error={}", batch.size(), e.getMessage());
+            List<ChatInsert> pending = new ArrayList<>();
+            for (ChatInsert chat : batch) {
+                // 일시 장애가 시작되면 남은 행은 시도하지 않고 재시도 대상으로 넘김
+                if (pending.isEmpty()) {
+                    pending.addAll(write(List.of(chat)));
+                } else {
+                    pending.add(chat);
+                }
+            }
+            return pending;
+        }
+    }
+
+    /**
+     * 중복 키 처리: 저장된 행이 같은 방 사용자/내용이면 이전 시도가 커밋된 뒤 응답만 잃은 것으로 보고 넘어가고,
+     * 다르면 다른 메시지와 message_id 가 겹친 것이므로 dead-letter 로 보낸다.
+     * @return 확인 중 일시 장애가 나면 다시 시도할 행
+     */
+    private List<ChatInsert> resolveDuplicate(ChatInsert chat) {
+        try {
+            if (chatBatchWriter.isStored(chat)) {
+                duplicateCounter.increment();
+                log.debug("이미 저장된 채팅: messageId={}", chat.messageId());
+            } else {
+                log.error("message_id 충돌, 다른 메시지가 같은 ID 로 저장됨: messageId={}", chat.messageId());
+                deadLetterAll(List.of(chat), "message_id 충돌");
+            }
+            return List.of();
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                return List.of(chat);
+            }
+            deadLetterAll(List.of(chat), "중복 키 확인 실패: " + e.getClass().getSimpleName() + ": " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void deadLetterAll(List<ChatInsert> chats, String reason) {
+        for (ChatInsert chat : chats) {
+            deadLetterCounter.increment();
+            chatDeadLetterRepository.save(chat, reason);
+        }
+    }
+
+    // 연결 실패, 타임아웃, 락 경합처럼 다시 시도하면 성공할 수 있는 오류
+    private static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
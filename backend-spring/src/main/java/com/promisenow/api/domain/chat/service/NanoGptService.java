@@ -1,44 +1,162 @@
 // NanoGptService.java
 package com.promisenow.api.domain.chat.service;
 
+import com.promisenow.api.global.cache.LruTtlCache;
+import com.promisenow.api.infrastructure.ai.GmsClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.text.Normalizer;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 @Service
+@RequiredArgsConstructor
 public class NanoGptService {
-    private static final String ENDPOINT = "https://gms.ssafy.io/gmsapi/api.openai.com/v1/chat/completions";
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String SYSTEM_PROMPT = "충청도 조폭 말투로 30자 이내로 대답해, 충청도 사투리 써 말끝마다 '~' 붙여 다른 사람한텐 깡패 같이 대해";
+    private static final double TEMPERATURE = 0.3;
+    private static final int MAX_TOKENS = 4096;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s.!?~]+$");
 
-    // 반드시 환경변수에서 안전하게 GMS_KEY 불러오기!
-    @Value("${gms.key}")
-    private String gmsKey;
+    // 상위 엔드포인트(gms.endpoint)는 테스트 시 로컬 스텁 서버로 교체 가능
+    private final GmsClient gmsClient;
+    private final MeterRegistry meterRegistry;
 
+    // true 면 stream=true 로 요청해 토큰 단위 조각을 바로 전달 (PinoReplyService 참고)
+    // 프론트엔드(usePinoStreams)가 PINO_CHUNK 를 조립해 표시하고 최종 메시지로 교체한다.
+    @Value("${gms.stream:true}")
+    private boolean streamEnabled;
+
+    @Value("${gms.cache.max-size:1000}")
+    private int cacheMaxSize;
+
+    @Value("${gms.cache.ttl-seconds:600}")
+    private long cacheTtlSeconds;
+
+    // 정규화된 프롬프트 → 응답
+    private LruTtlCache<String, String> replyCache;
+
+    // 같은 프롬프트로 진행 중인 호출 (동시 요청은 하나의 상위 호출 결과를 공유)
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private Counter cacheHitCounter;
+    private Counter cacheMissCounter;
+    private Counter coalescedCounter;
+
+    @PostConstruct
+    protected void init() {
+        replyCache = new LruTtlCache<>(cacheMaxSize, TimeUnit.SECONDS.toMillis(cacheTtlSeconds));
+        cacheHitCounter = meterRegistry.counter("gms.reply.cache", "result", "hit");
+        cacheMissCounter = meterRegistry.counter("gms.reply.cache", "result", "miss");
+        coalescedCounter = meterRegistry.counter("gms.reply.coalesced");
+        Gauge.builder("gms.reply.cache.size", replyCache, LruTtlCache::size).register(meterRegistry);
+        Gauge.builder("gms.reply.inflight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 피노 응답 생성 (캐시 → 진행 중인 동일 요청 합류 → 상위 호출 순)
+     */
     public String generateGptReply(String userMessage) throws Exception {
-        Map<String, Object> body = new HashMap<>();
-        body.put("model", "gpt-4.1-nano");
-        body.put("max_tokens", 4096);
-        body.put("temperature", 0.3);
-
-        List<Map<String, String>> messages = new ArrayList<>();
-        messages.add(Map.of("role", "system", "content", "충청도 조폭 말투로 30자 이내로 대답해, 충청도 사투리 써 말끝마다 '~' 붙여 다른 사람한텐 깡패 같이 대해"));
-        messages.add(Map.of("role", "user", "content", userMessage));
-        body.put("messages", messages);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(gmsKey);
-
-        HttpEntity<String> request = new HttpEntity<>(objectMapper.writeValueAsString(body), headers);
-        ResponseEntity<Map> response = restTemplate.exchange(ENDPOINT, HttpMethod.POST, request, Map.class);
-
-        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.getBody().get("choices");
-        String result = (String) ((Map)choices.get(0).get("message")).get("content");
-        return result;
+        String key = normalize(userMessage);
+
+        String cached = replyCache.get(key);
+        if (cached != null) {
+            cacheHitCounter.increment();
+            return cached;
+        }
+        cacheMissCounter.increment();
+
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            coalescedCounter.increment();
+            return await(running);
+        }
+
+        try {
+            String reply = gmsClient.complete(SYSTEM_PROMPT, userMessage, TEMPERATURE, MAX_TOKENS);
+            replyCache.put(key, reply);
+            call.complete(reply);
+            return reply;
+        } catch (Exception e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    public boolean isStreamEnabled() {
+        return streamEnabled;
+    }
+
+    /**
+     * 스트리밍 피노 응답 생성
+     * 캐시에 있거나 같은 요청이 진행 중이면 최종 응답을 한 조각으로 전달하고,
+     * 그 외에는 상위 응답 조각을 받는 즉시 onDelta 로 전달한다.
+     * @return 최종 응답 전체
+     */
+    public String generateGptReplyStreaming(String userMessage, Consumer<String> onDelta) throws Exception {
+        String key = normalize(userMessage);
+
+        String cached = replyCache.get(key);
+        if (cached != null) {
+            cacheHitCounter.increment();
+            onDelta.accept(cached);
+            return cached;
+        }
+        cacheMissCounter.increment();
+
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            coalescedCounter.increment();
+            String reply = await(running);
+            onDelta.accept(reply);
+            return reply;
+        }
+
+        try {
+            String reply = gmsClient.completeStreaming(SYSTEM_PROMPT, userMessage, TEMPERATURE, MAX_TOKENS, onDelta);
+            replyCache.put(key, reply);
+            call.complete(reply);
+            return reply;
+        } catch (Exception e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    // 진행 중인 호출 결과 대기 (상위 호출과 같은 시간 한도)
+    private String await(CompletableFuture<String> running) throws Exception {
+        try {
+            return running.get(gmsClient.getRequestTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    /**
+     * 캐시 키용 프롬프트 정규화 (유니코드 NFC, 공백 축약, 끝의 문장부호 제거)
+     * "안녕", " 안녕 ", "안녕~~" 은 같은 키가 된다.
+     */
+    static String normalize(String prompt) {
+        String normalized = Normalizer.normalize(prompt == null ? "" : prompt, Normalizer.Form.NFC);
+        normalized = WHITESPACE.matcher(normalized.trim()).replaceAll(" ");
+        normalized = TRAILING_PUNCTUATION.matcher(normalized).replaceAll("");
+        return normalized.toLowerCase(Locale.ROOT);
     }
 }
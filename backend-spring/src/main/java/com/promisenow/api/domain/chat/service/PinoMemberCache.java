@@ -0,0 +1,92 @@
+package com.promisenow.api.domain.chat.service;
+
+import com.promisenow.api.domain.room.entity.RoomUser;
+import com.promisenow.api.domain.room.repository.RoomRepository;
+import com.promisenow.api.domain.room.repository.RoomUserRepository;
+import com.promisenow.api.domain.user.entity.User;
+import com.promisenow.api.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방별 피노(RoomUser) 캐시
+ * 방마다 처음 한 번만 조회/생성하고, 이후 "@피노" 명령은 DB 를 거치지 않는다.
+ * DB 조회/생성은 맵 잠금 밖에서 하고 putIfAbsent 로 먼저 들어간 값을 사용한다. (같은 방의 동시 첫 요청은 함께 조회할 수 있음)
+ * 동시 생성은 room_user(room_id, user_id) 유니크 제약(SchemaPatchRunner 가 보장)으로 막은 뒤 다시 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PinoMemberCache {
+
+    public static final long PINO_USER_ID = -1L;
+    private static final String PINO_NICKNAME = "피노";
+
+    private final RoomRepository roomRepository;
+    private final RoomUserRepository roomUserRepository;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    // roomId → 피노 멤버 (엔티티 대신 필요한 값만 보관해 지연 로딩 문제를 피함)
+    private final Map<Long, PinoMember> members = new ConcurrentHashMap<>();
+
+    public record PinoMember(long roomUserId, String nickname) {}
+
+    @PostConstruct
+    protected void init() {
+        Gauge.builder("pino.member.cache.size", members, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 방의 피노 멤버 조회, 없다면 만들기 (userId = -1)
+     */
+    public PinoMember get(Long roomId) {
+        PinoMember cached = members.get(roomId);
+        if (cached != null) {
+            return cached;
+        }
+        // computeIfAbsent 안에서 I/O 를 하면 같은 버킷의 다른 방까지 잠기므로 밖에서 적재
+        PinoMember loaded = findOrCreate(roomId);
+        PinoMember existing = members.putIfAbsent(roomId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 방 삭제 등으로 피노 멤버가 사라졌을 때 캐시 제거
+     */
+    public void invalidate(Long roomId) {
+        members.remove(roomId);
+    }
+
+    private PinoMember findOrCreate(Long roomId) {
+        RoomUser pinoUser = roomUserRepository.findByRoom_RoomIdAndUser_UserId(roomId, PINO_USER_ID)
+                .orElseGet(() -> create(roomId));
+        return new PinoMember(pinoUser.getRoomUserId(), pinoUser.getNickname());
+    }
+
+    private RoomUser create(Long roomId) {
+        User pinoAccount = userRepository.findById(PINO_USER_ID)
+                .orElseThrow(() -> new IllegalStateException("PINO User(-1) 계정이 없습니다, 먼저 만드세요!"));
+        try {
+            return roomUserRepository.save(RoomUser.builder()
+                    .room(roomRepository.getReferenceById(roomId))
+                    .user(pinoAccount)
+                    .nickname(PINO_NICKNAME)
+                    .isAgreed(false)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 먼저 만든 경우 그 행을 사용
+            log.debug("피노 멤버 동시 생성 감지, 재조회: roomId={}", roomId);
+            return roomUserRepository.findByRoom_RoomIdAndUser_UserId(roomId, PINO_USER_ID)
+                    .orElseThrow(() -> e);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.promisenow.api.domain.chat.service;
+
+import com.promisenow.api.domain.chat.dto.MessageResponseDto;
+import com.promisenow.api.domain.chat.dto.PinoChunkDto;
+import com.promisenow.api.domain.chat.entity.Chat;
+import com.promisenow.api.domain.chat.repository.ChatInsert;
+import com.promisenow.api.domain.chat.repository.RecentMessageRepository;
+import com.promisenow.api.domain.chat.service.PinoMemberCache.PinoMember;
+import com.promisenow.api.infrastructure.websocket.TopicPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * "@피노" 명령 응답 처리
+ * 사용자 메시지는 먼저 브로드캐스트되고, AI 응답은 전용 스레드 풀에서 생성/저장한 뒤 /topic/chat/{roomId} 로 전송한다.
+ * STOMP inbound 스레드가 AI 호출 시간 동안 묶이지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PinoReplyService {
+
+    public static final String COMMAND_PREFIX = "@피노";
+
+    private static final String TOPIC_PREFIX = "/topic/chat/";
+    private static final String ERROR_REPLY = "AI 서버 오류: 잠시 후 다시 시도해 주세요.";
+    private static final String BUSY_REPLY = "피노가 지금 너무 바빠유~ 잠시 후 다시 불러줘유~";
+
+    private final NanoGptService nanoGptService;
+    private final ChatIdGenerator chatIdGenerator;
+    private final ChatWriteBehindBuffer chatWriteBehindBuffer;
+    private final PinoMemberCache pinoMemberCache;
+    private final RecentMessageRepository recentMessageRepository;
+    private final TopicPublisher topicPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${pino.reply.pool-size:4}")
+    private int poolSize;
+
+    @Value("${pino.reply.queue-capacity:64}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+    private Counter rejectedCounter;
+    private Counter failedCounter;
+    private Timer replyTimer;
+
+    @PostConstruct
+    protected void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "pino-reply-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        rejectedCounter = meterRegistry.counter("pino.reply.rejected");
+        failedCounter = meterRegistry.counter("pino.reply.failed");
+        replyTimer = meterRegistry.timer("pino.reply.latency");
+        Gauge.builder("pino.reply.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("pino.reply.active.threads", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 피노 호출 메시지인지 확인
+     */
+    public static boolean isCommand(String content) {
+        return content != null && content.startsWith(COMMAND_PREFIX);
+    }
+
+    /**
+     * 피노 응답을 비동기로 생성해 방에 전송 (작업 큐가 가득 차면 바쁨 응답을 바로 전송)
+     */
+    public void requestReply(Long roomId, String content) {
+        String prompt = content.replaceFirst(COMMAND_PREFIX, "").trim();
+        try {
+            executor.execute(() -> reply(roomId, prompt));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("피노 응답 작업 거부: roomId={}, queueSize={}", roomId, executor.getQueue().size());
+            publish(roomId, BUSY_REPLY);
+        }
+    }
+
+    private void reply(Long roomId, String prompt) {
+        if (nanoGptService.isStreamEnabled()) {
+            streamReply(roomId, prompt);
+            return;
+        }
+
+        String gptReply;
+        try {
+            gptReply = replyTimer.recordCallable(() -> nanoGptService.generateGptReply(prompt));
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("피노 응답 생성 실패: roomId={}, error={}", roomId, e.getMessage());
+            gptReply = ERROR_REPLY;
+        }
+
+        try {
+            publish(roomId, gptReply);
+        } catch (Exception e) {
+            log.error("피노 응답 저장/전송 실패: roomId={}", roomId, e);
+        }
+    }
+
+    // 응답 조각을 받는 대로 전송하고, 완료되면 최종 텍스트만 저장
+    private void streamReply(Long roomId, String prompt) {
+        String topic = TOPIC_PREFIX + roomId;
+        String correlationId = UUID.randomUUID().toString();
+        AtomicInteger seq = new AtomicInteger();
+
+        try {
+            PinoMember pinoUser = pinoMemberCache.get(roomId);
+
+            String gptReply;
+            try {
+                gptReply = replyTimer.recordCallable(() -> nanoGptService.generateGptReplyStreaming(prompt,
+                        delta -> topicPublisher.publish(topic, PinoChunkDto.builder()
+                                .correlationId(correlationId)
+                                .roomUserId(pinoUser.roomUserId())
+                                .nickname(pinoUser.nickname())
+                                .seq(seq.getAndIncrement())
+                                .delta(delta)
+                                .build())));
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.warn("피노 스트리밍 응답 실패: roomId={}, error={}", roomId, e.getMessage());
+                gptReply = ERROR_REPLY;
+            }
+
+            MessageResponseDto saved = save(roomId, pinoUser, gptReply);
+            topicPublisher.publish(topic, PinoChunkDto.builder()
+                    .correlationId(correlationId)
+                    .roomUserId(pinoUser.roomUserId())
+                    .nickname(pinoUser.nickname())
+                    .seq(seq.getAndIncrement())
+                    .done(true)
+                    .messageId(saved.getMessageId())
+                    .build());
+            topicPublisher.publish(topic, saved);
+        } catch (Exception e) {
+            log.error("피노 스트리밍 응답 저장/전송 실패: roomId={}", roomId, e);
+        }
+    }
+
+    // 피노 답변 저장 후 방에 전송
+    private void publish(Long roomId, String text) {
+        topicPublisher.publish(TOPIC_PREFIX + roomId, save(roomId, pinoMemberCache.get(roomId), text));
+    }
+
+    // 피노 답변 저장
+    private MessageResponseDto save(Long roomId, PinoMember pinoUser, String text) {
+        long messageId = chatIdGenerator.nextId();
+        LocalDateTime now = LocalDateTime.now();
+        chatWriteBehindBuffer.enqueue(new ChatInsert(
+                messageId, pinoUser.roomUserId(), text, Chat.ChatType.PINO, now, null, null, null));
+
+        MessageResponseDto saved = new MessageResponseDto(
+                messageId,
+                text,
+                pinoUser.roomUserId(),
+                PinoMemberCache.PINO_USER_ID,
+                pinoUser.nickname(),
+                now,
+                Chat.ChatType.PINO,
+                null
+        );
+        recentMessageRepository.append(roomId, saved);
+        return saved;
+    }
+}
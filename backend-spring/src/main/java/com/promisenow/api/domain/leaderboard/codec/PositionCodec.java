@@ -0,0 +1,144 @@
+package com.promisenow.api.domain.leaderboard.codec;
+
+import com.promisenow.api.domain.leaderboard.dto.UserPositionDto;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * 리더보드 위치 레코드 코덱
+ * 사용자 위치를 고정 길이 little-endian 바이트 레코드 하나로 저장한다. (leaderboard-update.lua 의 '<ddddddi8B' 와 동일)
+ *
+ * <pre>
+ * offset  0  lat       (double)
+ * offset  8  lng       (double)
+ * offset 16  startLat  (double)
+ * offset 24  startLng  (double)
+ * offset 32  velocity  (double, km/h)
+ * offset 40  progress  (double, 0 ~ 100)
+ * offset 48  time      (int64, epoch ms)
+ * offset 56  flags     (byte)
+ * </pre>
+ */
+public final class PositionCodec {
+
+    public static final int RECORD_SIZE = 57;
+
+    // 위치 갱신 요청 레이아웃 (leaderboard-update.lua 의 '<i8ddBddi8i4dB')
+    // roomUserId, lat, lng, online, goalLat, goalLng, now, onlineTtl, arrivalRadius, equirectangular
+    public static final int UPDATE_REQUEST_SIZE = 62;
+
+    public static final int FLAG_ARRIVED = 1;
+    public static final int FLAG_HAS_POSITION = 1 << 1;
+    public static final int FLAG_HAS_START = 1 << 2;
+
+    // byte[] 위에 직접 읽고 쓰는 little-endian 뷰 (ByteBuffer 래퍼 할당 없음)
+    private static final VarHandle DOUBLE_LE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private PositionCodec() {
+    }
+
+    /**
+     * DTO 를 위치 레코드로 변환 (값이 없는 좌표는 0 으로 채우고 플래그로 구분)
+     */
+    public static byte[] encode(UserPositionDto position) {
+        boolean hasPosition = position.getLat() != null && position.getLng() != null;
+        boolean hasStart = position.getStartLat() != null && position.getStartLng() != null;
+
+        int flags = 0;
+        if (Boolean.TRUE.equals(position.getArrived())) flags |= FLAG_ARRIVED;
+        if (hasPosition) flags |= FLAG_HAS_POSITION;
+        if (hasStart) flags |= FLAG_HAS_START;
+
+        byte[] record = new byte[RECORD_SIZE];
+        DOUBLE_LE.set(record, 0, hasPosition ? position.getLat() : 0.0);
+        DOUBLE_LE.set(record, 8, hasPosition ? position.getLng() : 0.0);
+        DOUBLE_LE.set(record, 16, hasStart ? position.getStartLat() : 0.0);
+        DOUBLE_LE.set(record, 24, hasStart ? position.getStartLng() : 0.0);
+        DOUBLE_LE.set(record, 32, orZero(position.getVelocity()));
+        DOUBLE_LE.set(record, 40, orZero(position.getProgress()));
+        LONG_LE.set(record, 48, position.getTimestamp() != null ? position.getTimestamp() : 0L);
+        record[56] = (byte) flags;
+        return record;
+    }
+
+    /**
+     * 위치 갱신 요청을 주어진 버퍼에 기록 (UPDATE_REQUEST_SIZE 바이트, 호출부가 버퍼를 재사용)
+     */
+    public static void encodeUpdateRequest(byte[] target, long roomUserId, double lat, double lng, boolean online,
+                                           double goalLat, double goalLng, long timestamp,
+                                           int onlineTtlSeconds, double arrivalRadiusKm,
+                                           boolean equirectangular) {
+        LONG_LE.set(target, 0, roomUserId);
+        DOUBLE_LE.set(target, 8, lat);
+        DOUBLE_LE.set(target, 16, lng);
+        target[24] = (byte) (online ? 1 : 0);
+        DOUBLE_LE.set(target, 25, goalLat);
+        DOUBLE_LE.set(target, 33, goalLng);
+        LONG_LE.set(target, 41, timestamp);
+        INT_LE.set(target, 49, onlineTtlSeconds);
+        DOUBLE_LE.set(target, 53, arrivalRadiusKm);
+        target[61] = (byte) (equirectangular ? 1 : 0);
+    }
+
+    /**
+     * little-endian double 하나로 된 응답 읽기 (없으면 0)
+     */
+    public static double readDouble(byte[] bytes) {
+        if (bytes == null || bytes.length < Double.BYTES) {
+            return 0.0;
+        }
+        return (double) DOUBLE_LE.get(bytes, 0);
+    }
+
+    /**
+     * 위치 레코드를 가변 레코드에 풀어 담기 (레코드가 없거나 길이가 맞지 않으면 초기화 후 false)
+     */
+    public static boolean decode(byte[] record, PositionRecord target) {
+        if (record == null || record.length != RECORD_SIZE) {
+            target.clear();
+            return false;
+        }
+
+        target.setLat((double) DOUBLE_LE.get(record, 0));
+        target.setLng((double) DOUBLE_LE.get(record, 8));
+        target.setStartLat((double) DOUBLE_LE.get(record, 16));
+        target.setStartLng((double) DOUBLE_LE.get(record, 24));
+        target.setVelocity((double) DOUBLE_LE.get(record, 32));
+        target.setProgress((double) DOUBLE_LE.get(record, 40));
+        target.setTime((long) LONG_LE.get(record, 48));
+        target.setFlags(record[56] & 0xFF);
+        return true;
+    }
+
+    /**
+     * 위치 레코드를 DTO 로 변환 (레코드가 없거나 길이가 맞지 않으면 빈 DTO)
+     */
+    public static UserPositionDto decode(byte[] record) {
+        PositionRecord position = new PositionRecord();
+        if (!decode(record, position)) {
+            return UserPositionDto.empty();
+        }
+
+        boolean hasPosition = position.hasPosition();
+        boolean hasStart = position.hasStart();
+
+        return UserPositionDto.builder()
+                .lat(hasPosition ? position.getLat() : null)
+                .lng(hasPosition ? position.getLng() : null)
+                .timestamp(hasPosition ? position.getTime() : null)
+                .startLat(hasStart ? position.getStartLat() : null)
+                .startLng(hasStart ? position.getStartLng() : null)
+                .velocity(position.getVelocity())
+                .progress(position.getProgress())
+                .arrived(position.isArrived())
+                .build();
+    }
+
+    private static double orZero(Double value) {
+        return value != null ? value : 0.0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.promisenow.api.domain.leaderboard.codec;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 위치 레코드의 가변 primitive 표현
+ * 조회 경로에서 박싱이나 빌더 없이 PositionCodec 레코드를 그대로 풀어 담는다.
+ */
+@Getter
+@Setter
+@ToString
+public class PositionRecord {
+
+    private double lat;
+    private double lng;
+    private double startLat;
+    private double startLng;
+    private double velocity; // km/h
+    private double progress; // 0 ~ 100
+    private long time;
+    private int flags;
+
+    public boolean isArrived() {
+        return (flags & PositionCodec.FLAG_ARRIVED) != 0;
+    }
+
+    public boolean hasPosition() {
+        return (flags & PositionCodec.FLAG_HAS_POSITION) != 0;
+    }
+
+    public boolean hasStart() {
+        return (flags & PositionCodec.FLAG_HAS_START) != 0;
+    }
+
+    /**
+     * 저장된 값이 없는 상태로 초기화
+     */
+    public void clear() {
+        lat = lng = startLat = startLng = velocity = progress = 0;
+        time = 0;
+        flags = 0;
+    }
+}
@@ -3,8 +3,8 @@ package com.promisenow.api.domain.leaderboard.controller;
 import com.promisenow.api.common.ApiUtils;
 import com.promisenow.api.domain.leaderboard.dto.PositionResponseDto;
 import com.promisenow.api.domain.leaderboard.service.LeaderboardService;
-import com.promisenow.api.domain.room.entity.Room;
-import com.promisenow.api.domain.room.repository.RoomRepository;
+import com.promisenow.api.domain.room.cache.RoomMetadata;
+import com.promisenow.api.domain.room.cache.RoomMetadataCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -29,7 +29,7 @@ import static com.promisenow.api.common.ApiUtils.success;
 public class LeaderboardController {
 
     private final LeaderboardService leaderboardService;
-    private final RoomRepository roomRepository;
+    private final RoomMetadataCache roomMetadataCache;
 
     @Operation(
             summary = "리더보드 초기 데이터 조회",
@@ -81,20 +81,20 @@ public class LeaderboardController {
         try {
             log.info("리더보드 초기 데이터 조회: roomId={}", roomId);
 
-            Room room = roomRepository.findById(roomId)
+            RoomMetadata room = roomMetadataCache.find(roomId)
                     .orElseThrow(() -> new IllegalArgumentException("방이 존재하지 않습니다"));
 
             // 방의 목적지 위치 정보가 없는 경우 처리
-            if (room.getLocationLat() == null || room.getLocationLng() == null) {
-                log.warn("방의 목적지 위치 정보가 설정되지 않음: roomId={}", room.getRoomId());
+            if (!room.hasDestination()) {
+                log.warn("방의 목적지 위치 정보가 설정되지 않음: roomId={}", room.roomId());
                 return success(List.of()); // 빈 배열 반환
             }
 
             // 리더보드 데이터 조회 (최대 20명)
             List<PositionResponseDto> leaderboard = leaderboardService.getLeaderboard(
                     roomId,
-                    room.getLocationLat(),
-                    room.getLocationLng(),
+                    room.locationLat(),
+                    room.locationLng(),
                     20
             );
 
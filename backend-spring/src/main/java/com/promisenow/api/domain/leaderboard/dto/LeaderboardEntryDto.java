@@ -0,0 +1,21 @@
+package com.promisenow.api.domain.leaderboard.dto;
+
+import com.promisenow.api.domain.leaderboard.codec.PositionRecord;
+import lombok.*;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class LeaderboardEntryDto {
+
+    // 리더보드 멤버
+    private Long roomUserId;
+
+    // 온라인 상태
+    private boolean online;
+
+    // 저장된 위치 정보 (저장된 값이 없으면 flags 가 0)
+    private PositionRecord position;
+}
@@ -0,0 +1,33 @@
+package com.promisenow.api.domain.leaderboard.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 델타 모드 리더보드 메시지
+ * 구독 시 SNAPSHOT 을 한 번 받고, 이후에는 변경된 항목만 담긴 DELTA 를 순번(seq)과 함께 받는다.
+ * 클라이언트는 seq 가 직전 값 + 1 이 아니면 스냅샷을 다시 요청해 재동기화한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardMessageDto {
+
+    public enum Type {
+        SNAPSHOT,   // 전체 상태
+        DELTA       // 직전 seq 이후 변경분
+    }
+
+    private Type type;
+
+    // 방 단위 순번. DELTA 마다 1씩 증가하고, SNAPSHOT 은 해당 시점의 마지막 seq 를 가진다.
+    private long seq;
+
+    // SNAPSHOT: 전체 항목(순위 순서), DELTA: 변경/추가된 항목
+    private List<PositionResponseDto> entries;
+
+    // DELTA: 리더보드에서 빠진 roomUserId 목록
+    private List<Long> removed;
+}
@@ -2,9 +2,6 @@ package com.promisenow.api.domain.leaderboard.dto;
 
 import lombok.*;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @Getter
 @Builder
 @NoArgsConstructor
@@ -30,40 +27,6 @@ public class UserPositionDto {
     // 온라인 상태
     private Boolean online;
     
-    /**
-     * Redis에서 가져온 Map 데이터로부터 DTO 생성
-     */
-    public static UserPositionDto fromRedisMap(Map<Object, Object> redisData) {
-        return UserPositionDto.builder()
-                .lat(safeParseDouble(redisData.get("lat")))
-                .lng(safeParseDouble(redisData.get("lng")))
-                .timestamp(safeParseLong(redisData.get("time")))
-                .startLat(safeParseDouble(redisData.get("startLat")))
-                .startLng(safeParseDouble(redisData.get("startLng")))
-                .velocity(safeParseDouble(redisData.get("velocity")))
-                .progress(safeParseDouble(redisData.get("progress")))
-                .arrived(safeParseBoolean(redisData.get("arrived")))
-                .build();
-    }
-    
-    /**
-     * DTO를 Redis에 저장할 Map으로 변환
-     */
-    public Map<String, Object> toRedisMap() {
-        Map<String, Object> map = new HashMap<>();
-        
-        if (lat != null) map.put("lat", lat);
-        if (lng != null) map.put("lng", lng);
-        if (timestamp != null) map.put("time", timestamp);
-        if (startLat != null) map.put("startLat", startLat);
-        if (startLng != null) map.put("startLng", startLng);
-        if (velocity != null) map.put("velocity", velocity);
-        if (progress != null) map.put("progress", progress);
-        if (arrived != null) map.put("arrived", arrived);
-        
-        return map;
-    }
-    
     /**
      * 새로운 위치 정보로 업데이트된 DTO 생성
      */
@@ -157,45 +120,4 @@ public class UserPositionDto {
     public static UserPositionDto empty() {
         return UserPositionDto.builder().build();
     }
-    
-    /**
-     * 안전한 Double 파싱
-     */
-    private static Double safeParseDouble(Object value) {
-        if (value == null) return null;
-        try {
-            if (value instanceof Number) {
-                return ((Number) value).doubleValue();
-            }
-            return Double.parseDouble(value.toString());
-        } catch (NumberFormatException e) {
-            return null;
-        }
-    }
-    
-    /**
-     * 안전한 Long 파싱
-     */
-    private static Long safeParseLong(Object value) {
-        if (value == null) return null;
-        try {
-            if (value instanceof Number) {
-                return ((Number) value).longValue();
-            }
-            return Long.parseLong(value.toString());
-        } catch (NumberFormatException e) {
-            return null;
-        }
-    }
-    
-    /**
-     * 안전한 Boolean 파싱
-     */
-    private static Boolean safeParseBoolean(Object value) {
-        if (value == null) return null;
-        if (value instanceof Boolean) {
-            return (Boolean) value;
-        }
-        return Boolean.parseBoolean(value.toString());
-    }
 }
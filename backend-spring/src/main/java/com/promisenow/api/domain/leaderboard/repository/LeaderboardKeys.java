@@ -0,0 +1,48 @@
+package com.promisenow.api.domain.leaderboard.repository;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 방 단위 리더보드 Redis 키 모음
+ * 방마다 한 번만 만들어 재사용하므로, 위치 갱신마다 방 단위 키 문자열을 이어붙이거나 인코딩하지 않는다.
+ * 방의 모든 키는 해시 태그 {roomId} 를 공유해서 Redis Cluster 에서도 같은 슬롯에 놓인다.
+ * (조회 스크립트가 리더보드 멤버로부터 사용자 키를 동적으로 만들기 때문에 필요)
+ */
+public record LeaderboardKeys(
+        long roomId,
+        String leaderboardKey,
+        String arrivalOrderKey,
+        String userKeyPrefix,
+        byte[] leaderboardKeyBytes,
+        byte[] arrivalOrderKeyBytes
+) {
+
+    public static LeaderboardKeys of(long roomId) {
+        String roomKey = "room:{" + roomId + "}";
+        String leaderboardKey = roomKey + ":leaderboard";
+        String arrivalOrderKey = roomKey + ":arrivalOrder";
+        String userKeyPrefix = roomKey + ":user:";
+        return new LeaderboardKeys(
+                roomId,
+                leaderboardKey,
+                arrivalOrderKey,
+                userKeyPrefix,
+                leaderboardKey.getBytes(StandardCharsets.UTF_8),
+                arrivalOrderKey.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * 사용자 위치 레코드 키 (room:{roomId}:user:roomUserId:pos)
+     */
+    public String positionKey(long roomUserId) {
+        return userKeyPrefix + roomUserId + ":pos";
+    }
+
+    /**
+     * 사용자 온라인 키 (room:{roomId}:user:roomUserId:online)
+     */
+    public String onlineKey(long roomUserId) {
+        return userKeyPrefix + roomUserId + ":online";
+    }
+}
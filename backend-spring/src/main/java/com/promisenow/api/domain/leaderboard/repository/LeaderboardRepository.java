@@ -1,19 +1,22 @@
 package com.promisenow.api.domain.leaderboard.repository;
 
+import com.promisenow.api.domain.leaderboard.dto.LeaderboardEntryDto;
 import com.promisenow.api.domain.leaderboard.dto.UserPositionDto;
+import com.promisenow.api.global.util.GeoDistance;
+import java.util.List;
 import java.util.Set;
 
 public interface LeaderboardRepository {
     
     /**
-     * 사용자 위치 정보 저장
+     * 사용자 위치 정보 저장 (PositionCodec 레코드)
      */
-    void saveUserPosition(String userKey, UserPositionDto userPosition);
+    void saveUserPosition(String positionKey, UserPositionDto userPosition);
     
     /**
-     * 사용자 위치 정보 조회
+     * 사용자 위치 정보 조회 (PositionCodec 레코드)
      */
-    UserPositionDto getUserPosition(String userKey);
+    UserPositionDto getUserPosition(String positionKey);
     
     /**
      * 온라인 상태 설정
@@ -40,13 +43,25 @@ public interface LeaderboardRepository {
      */
     Set<Object> getTopUsers(String leaderboardKey, int topN);
     
+    /**
+     * 리더보드 상위 N명의 위치/온라인 정보 일괄 조회 (단일 라운드트립, 리더보드 순위 순서 유지)
+     * 사용자별 위치 키는 userKeyPrefix + roomUserId + ":pos", 온라인 키는 userKeyPrefix + roomUserId + ":online"
+     * (사용자 키는 스크립트 안에서 조합하므로 userKeyPrefix 는 리더보드 키와 같은 해시 태그를 가져야 한다, LeaderboardKeys 참고)
+     */
+    List<LeaderboardEntryDto> getLeaderboardEntries(String leaderboardKey, String userKeyPrefix, int topN);
+    
     /**
      * 리더보드 크기 조회
      */
     Long getLeaderboardSize(String leaderboardKey);
     
     /**
-     * 연결 테스트
+     * 위치 갱신 (단일 라운드트립)
+     * 이전 위치 조회, 속도/진행률/도착 계산, 위치 레코드/온라인 TTL/도착 순서/리더보드 저장을 원자적으로 처리
+     * 스크립트가 건드리는 키(사용자 위치/온라인, 도착 순서, 리더보드)는 모두 KEYS 로 전달한다.
+     * @return 계산된 속도 (km/h)
      */
-    boolean testConnection();
+    double updateUserPosition(LeaderboardKeys keys, long roomUserId, double lat, double lng, boolean online,
+                              double goalLat, double goalLng, long timestamp,
+                              int onlineTtlSeconds, double arrivalRadiusKm, GeoDistance.Mode distanceMode);
 }
@@ -1,14 +1,27 @@
 package com.promisenow.api.domain.leaderboard.repository;
 
+import com.promisenow.api.domain.leaderboard.codec.PositionCodec;
+import com.promisenow.api.domain.leaderboard.codec.PositionRecord;
+import com.promisenow.api.domain.leaderboard.dto.LeaderboardEntryDto;
 import com.promisenow.api.domain.leaderboard.dto.UserPositionDto;
+import com.promisenow.api.global.util.GeoDistance;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 @Slf4j
@@ -16,29 +29,52 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class RedisLeaderboardRepository implements LeaderboardRepository {
     
-    private final RedisTemplate<String, String> redisTemplate;
+    // 위치 갱신용 Lua 스크립트 (EVALSHA 로 실행되고, 캐시에 없으면 EVAL 로 재시도)
+    private static final RedisScript<String> UPDATE_POSITION_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/leaderboard-update.lua"), String.class);
+    
+    private static final String UPDATE_POSITION_SHA = UPDATE_POSITION_SCRIPT.getSha1();
+    private static final byte[] UPDATE_POSITION_SOURCE =
+            UPDATE_POSITION_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+    
+    private static final int UPDATE_KEY_COUNT = 4;
+    
+    // 위치 갱신 요청 버퍼 (스레드별 재사용, 호출이 동기식이라 응답을 받은 뒤에만 다시 쓰인다)
+    private static final ThreadLocal<UpdateScratch> UPDATE_SCRATCH = ThreadLocal.withInitial(UpdateScratch::new);
+    
+    // 리더보드 일괄 조회용 Lua 스크립트
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_LEADERBOARD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/leaderboard-read.lua"), List.class);
+    
+    // 일괄 조회 결과에서 사용자 한 명이 차지하는 항목 수 (roomUserId, online, 위치 레코드)
+    private static final int ENTRY_WIDTH = 3;
+    
+    private static final byte[] ONLINE_VALUE = "1".getBytes(StandardCharsets.UTF_8);
+    
+    // 리더보드 전용 템플릿 (값은 바이트 그대로 저장, RedisConfig 참고)
+    private final RedisTemplate<String, byte[]> leaderboardRedisTemplate;
     
     @Override
-    public void saveUserPosition(String userKey, UserPositionDto userPosition) {
+    public void saveUserPosition(String positionKey, UserPositionDto userPosition) {
         try {
-            Map<String, Object> userData = userPosition.toRedisMap();
-            redisTemplate.opsForHash().putAll(userKey, userData);
-            log.debug("사용자 위치 정보 저장 완료: userKey={}", userKey);
+            leaderboardRedisTemplate.opsForValue().set(positionKey, PositionCodec.encode(userPosition));
+            log.debug("사용자 위치 정보 저장 완료: positionKey={}", positionKey);
         } catch (Exception e) {
-            log.error("사용자 위치 정보 저장 실패: userKey={}, error={}", userKey, e.getMessage());
+            log.error("사용자 위치 정보 저장 실패: positionKey={}, error={}", positionKey, e.getMessage());
             throw new RuntimeException("사용자 위치 정보 저장 실패", e);
         }
     }
     
     @Override
-    public UserPositionDto getUserPosition(String userKey) {
+    public UserPositionDto getUserPosition(String positionKey) {
         try {
-            Map<Object, Object> redisData = redisTemplate.opsForHash().entries(userKey);
-            UserPositionDto userPosition = UserPositionDto.fromRedisMap(redisData);
-            log.debug("사용자 위치 정보 조회 완료: userKey={}, dataSize={}", userKey, redisData.size());
+            byte[] record = leaderboardRedisTemplate.opsForValue().get(positionKey);
+            UserPositionDto userPosition = PositionCodec.decode(record);
+            log.debug("사용자 위치 정보 조회 완료: positionKey={}, found={}", positionKey, record != null);
             return userPosition;
         } catch (Exception e) {
-            log.error("사용자 위치 정보 조회 실패: userKey={}, error={}", userKey, e.getMessage());
+            log.error("사용자 위치 정보 조회 실패: positionKey={}, error={}", positionKey, e.getMessage());
             throw new RuntimeException("사용자 위치 정보 조회 실패", e);
         }
     }
@@ -47,10 +83,10 @@ public class RedisLeaderboardRepository implements LeaderboardRepository {
     public void setOnlineStatus(String onlineKey, boolean online, long ttlSeconds) {
         try {
             if (online) {
-                redisTemplate.opsForValue().set(onlineKey, "true", Duration.ofSeconds(ttlSeconds));
+                leaderboardRedisTemplate.opsForValue().set(onlineKey, ONLINE_VALUE, Duration.ofSeconds(ttlSeconds));
                 log.debug("온라인 상태 설정 완료: onlineKey={}, ttl={}초", onlineKey, ttlSeconds);
             } else {
-                redisTemplate.delete(onlineKey);
+                leaderboardRedisTemplate.delete(onlineKey);
                 log.debug("오프라인 상태 설정 완료: onlineKey={}", onlineKey);
             }
         } catch (Exception e) {
@@ -62,7 +98,7 @@ public class RedisLeaderboardRepository implements LeaderboardRepository {
     @Override
     public boolean isOnline(String onlineKey) {
         try {
-            boolean isOnline = redisTemplate.hasKey(onlineKey);
+            boolean isOnline = leaderboardRedisTemplate.hasKey(onlineKey);
             log.debug("온라인 상태 확인: onlineKey={}, isOnline={}", onlineKey, isOnline);
             return isOnline;
         } catch (Exception e) {
@@ -74,7 +110,7 @@ public class RedisLeaderboardRepository implements LeaderboardRepository {
     @Override
     public void addToLeaderboard(String leaderboardKey, String roomUserId, double score) {
         try {
-            redisTemplate.opsForZSet().add(leaderboardKey, roomUserId, score);
+            leaderboardRedisTemplate.opsForZSet().add(leaderboardKey, toBytes(roomUserId), score);
             log.debug("리더보드 추가 완료: leaderboardKey={}, roomUserId={}, score={}", leaderboardKey, roomUserId, score);
         } catch (Exception e) {
             log.error("리더보드 추가 실패: leaderboardKey={}, roomUserId={}, error={}", leaderboardKey, roomUserId, e.getMessage());
@@ -85,7 +121,7 @@ public class RedisLeaderboardRepository implements LeaderboardRepository {
     @Override
     public void addToArrivalOrder(String arrivalOrderKey, String roomUserId, long timestamp) {
         try {
-            redisTemplate.opsForZSet().add(arrivalOrderKey, roomUserId, timestamp);
+            leaderboardRedisTemplate.opsForZSet().add(arrivalOrderKey, toBytes(roomUserId), timestamp);
             log.debug("도착 순서 추가 완료: arrivalOrderKey={}, roomUserId={}, timestamp={}", arrivalOrderKey, roomUserId, timestamp);
         } catch (Exception e) {
             log.error("도착 순서 추가 실패: arrivalOrderKey={}, roomUserId={}, error={}", arrivalOrderKey, roomUserId, e.getMessage());
@@ -96,8 +132,14 @@ public class RedisLeaderboardRepository implements LeaderboardRepository {
     @Override
     public Set<Object> getTopUsers(String leaderboardKey, int topN) {
         try {
-            Set<String> topUsers = redisTemplate.opsForZSet().range(leaderboardKey, 0, topN - 1);
-            Set<Object> result = topUsers != null ? new HashSet<>(topUsers) : new HashSet<>();
+            Set<byte[]> topUsers = leaderboardRedisTemplate.opsForZSet().range(leaderboardKey, 0, topN - 1);
+            // 순위 순서를 유지하기 위해 LinkedHashSet 사용
+            Set<Object> result = new LinkedHashSet<>();
+            if (topUsers != null) {
+                for (byte[] member : topUsers) {
+                    result.add(toString(member));
+                }
+            }
             log.debug("리더보드 상위 사용자 조회 완료: leaderboardKey={}, topN={}, resultSize={}", leaderboardKey, topN, result.size());
             return result;
         } catch (Exception e) {
@@ -106,10 +148,42 @@ public class RedisLeaderboardRepository implements LeaderboardRepository {
         }
     }
     
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<LeaderboardEntryDto> getLeaderboardEntries(String leaderboardKey, String userKeyPrefix, int topN) {
+        try {
+            List<byte[]> raw = leaderboardRedisTemplate.execute(
+                    READ_LEADERBOARD_SCRIPT,
+                    RedisSerializer.string(),
+                    (RedisSerializer) RedisSerializer.byteArray(),
+                    List.of(leaderboardKey),
+                    userKeyPrefix,
+                    String.valueOf(topN)
+            );
+            if (raw == null || raw.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            List<LeaderboardEntryDto> entries = new ArrayList<>(raw.size() / ENTRY_WIDTH);
+            for (int i = 0; i + ENTRY_WIDTH <= raw.size(); i += ENTRY_WIDTH) {
+                entries.add(LeaderboardEntryDto.builder()
+                        .roomUserId(Long.parseLong(toString(raw.get(i))))
+                        .online("1".equals(toString(raw.get(i + 1))))
+                        .position(decodePosition(raw.get(i + 2)))
+                        .build());
+            }
+            log.debug("리더보드 일괄 조회 완료: leaderboardKey={}, topN={}, resultSize={}", leaderboardKey, topN, entries.size());
+            return entries;
+        } catch (Exception e) {
+            log.error("리더보드 일괄 조회 실패: leaderboardKey={}, topN={}, error={}", leaderboardKey, topN, e.getMessage());
+            throw new RuntimeException("리더보드 일괄 조회 실패", e);
+        }
+    }
+    
     @Override
     public Long getLeaderboardSize(String leaderboardKey) {
         try {
-            Long size = redisTemplate.opsForZSet().zCard(leaderboardKey);
+            Long size = leaderboardRedisTemplate.opsForZSet().zCard(leaderboardKey);
             log.debug("리더보드 크기 조회 완료: leaderboardKey={}, size={}", leaderboardKey, size);
             return size;
         } catch (Exception e) {
@@ -119,16 +193,76 @@ public class RedisLeaderboardRepository implements LeaderboardRepository {
     }
     
     @Override
-    public boolean testConnection() {
+    public double updateUserPosition(LeaderboardKeys keys, long roomUserId, double lat, double lng, boolean online,
+                                     double goalLat, double goalLng, long timestamp,
+                                     int onlineTtlSeconds, double arrivalRadiusKm, GeoDistance.Mode distanceMode) {
         try {
-            redisTemplate.opsForValue().set("test:connection", "test", Duration.ofSeconds(10));
-            String testValue = redisTemplate.opsForValue().get("test:connection");
-            boolean isConnected = testValue != null;
-            log.info("Redis 연결 테스트: {}", isConnected ? "성공" : "실패");
-            return isConnected;
+            UpdateScratch scratch = UPDATE_SCRATCH.get();
+            PositionCodec.encodeUpdateRequest(scratch.request, roomUserId, lat, lng, online,
+                    goalLat, goalLng, timestamp, onlineTtlSeconds, arrivalRadiusKm,
+                    distanceMode == GeoDistance.Mode.EQUIRECTANGULAR);
+            scratch.keysAndArgs[0] = toBytes(keys.positionKey(roomUserId));
+            scratch.keysAndArgs[1] = toBytes(keys.onlineKey(roomUserId));
+            scratch.keysAndArgs[2] = keys.arrivalOrderKeyBytes();
+            scratch.keysAndArgs[3] = keys.leaderboardKeyBytes();
+
+            double velocity = PositionCodec.readDouble(leaderboardRedisTemplate.execute(scratch.callback));
+            log.debug("위치 갱신 완료: roomId={}, roomUserId={}, velocity={}", keys.roomId(), roomUserId, velocity);
+            return velocity;
         } catch (Exception e) {
-            log.error("Redis 연결 테스트 실패: {}", e.getMessage());
-            return false;
+            log.error("위치 갱신 실패: roomId={}, roomUserId={}, error={}", keys.roomId(), roomUserId, e.getMessage());
+            throw new RuntimeException("위치 갱신 실패", e);
         }
     }
+    
+    /**
+     * 위치 갱신 스크립트 실행 (EVALSHA, 스크립트 캐시에 없으면 EVAL 로 재시도)
+     */
+    private static byte[] evalUpdateScript(RedisConnection connection,
+                                           byte[][] keysAndArgs) {
+        try {
+            return connection.scriptingCommands().evalSha(UPDATE_POSITION_SHA, ReturnType.VALUE, UPDATE_KEY_COUNT, keysAndArgs);
+        } catch (DataAccessException e) {
+            if (!isNoScriptError(e)) {
+                throw e;
+            }
+            return connection.scriptingCommands().eval(UPDATE_POSITION_SOURCE, ReturnType.VALUE, UPDATE_KEY_COUNT, keysAndArgs);
+        }
+    }
+    
+    private static boolean isNoScriptError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 스레드별 위치 갱신 작업 공간 (요청 버퍼, 키/인자 배열, 콜백을 한 번만 만들어 재사용)
+     */
+    private static final class UpdateScratch {
+        private final byte[] request = new byte[PositionCodec.UPDATE_REQUEST_SIZE];
+        private final byte[][] keysAndArgs = new byte[UPDATE_KEY_COUNT + 1][];
+        private final RedisCallback<byte[]> callback = connection -> evalUpdateScript(connection, keysAndArgs);
+
+        private UpdateScratch() {
+            keysAndArgs[UPDATE_KEY_COUNT] = request;
+        }
+    }
+    
+    private static PositionRecord decodePosition(byte[] record) {
+        PositionRecord position = new PositionRecord();
+        PositionCodec.decode(record, position);
+        return position;
+    }
+    
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private static String toString(byte[] value) {
+        return value != null ? new String(value, StandardCharsets.UTF_8) : "";
+    }
 }
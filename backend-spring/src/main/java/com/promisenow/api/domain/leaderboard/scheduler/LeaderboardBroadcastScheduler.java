@@ -0,0 +1,187 @@
+package com.promisenow.api.domain.leaderboard.scheduler;
+
+import com.promisenow.api.domain.leaderboard.dto.LeaderboardMessageDto;
+import com.promisenow.api.domain.leaderboard.dto.PositionResponseDto;
+import com.promisenow.api.domain.leaderboard.service.LeaderboardDeltaTracker;
+import com.promisenow.api.domain.leaderboard.service.LeaderboardService;
+import com.promisenow.api.infrastructure.redis.RedisHealthMonitor;
+import com.promisenow.api.infrastructure.websocket.TopicPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방 단위 리더보드 브로드캐스트 스케줄러
+ * 위치 갱신 시 방을 dirty 로 표시만 하고, 주기마다 방별로 최대 한 번만 스냅샷을 조회/전송한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardBroadcastScheduler {
+
+    private static final String TOPIC_PREFIX = "/topic/leaderboard/";
+
+    private final LeaderboardService leaderboardService;
+    private final LeaderboardDeltaTracker deltaTracker;
+    private final TopicPublisher topicPublisher;
+    private final MeterRegistry meterRegistry;
+    private final RedisHealthMonitor redisHealthMonitor;
+
+    @Value("${leaderboard.broadcast.pool-size:4}")
+    private int poolSize;
+
+    @Value("${leaderboard.broadcast.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${leaderboard.broadcast.max-members:100}")
+    private int maxMembers;
+
+    // full: 매번 전체 목록 전송, delta: 변경분만 순번과 함께 전송 (LeaderboardMessageDto)
+    @Value("${leaderboard.broadcast.mode:full}")
+    private String mode;
+
+    // 전송 대기중인 방 (roomId → 목적지 좌표). 같은 주기 안의 중복 갱신은 하나로 합쳐진다.
+    private final Map<Long, Goal> dirtyRooms = new ConcurrentHashMap<>();
+
+    // 전송 작업이 진행중인 방. 진행중인 방은 다음 주기로 넘긴다.
+    private final Set<Long> inFlightRooms = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor executor;
+    private Counter markedCounter;
+    private Counter coalescedCounter;
+    private Counter rejectedCounter;
+    private Counter failedCounter;
+    private Counter unchangedCounter;
+    private Timer flushTimer;
+
+    private record Goal(double lat, double lng) {}
+
+    @PostConstruct
+    protected void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "leaderboard-broadcast-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        markedCounter = meterRegistry.counter("leaderboard.broadcast.marked");
+        coalescedCounter = meterRegistry.counter("leaderboard.broadcast.coalesced");
+        rejectedCounter = meterRegistry.counter("leaderboard.broadcast.rejected");
+        failedCounter = meterRegistry.counter("leaderboard.broadcast.failed");
+        unchangedCounter = meterRegistry.counter("leaderboard.broadcast.unchanged");
+        flushTimer = meterRegistry.timer("leaderboard.broadcast.flush");
+        Gauge.builder("leaderboard.broadcast.dirty.rooms", dirtyRooms, Map::size).register(meterRegistry);
+        Gauge.builder("leaderboard.broadcast.inflight.rooms", inFlightRooms, Set::size).register(meterRegistry);
+        Gauge.builder("leaderboard.broadcast.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("leaderboard.broadcast.active.threads", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    /**
+     * 델타 모드 여부
+     */
+    public boolean isDeltaMode() {
+        return "delta".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * 브로드캐스트 한 번에 담는 최대 인원 수
+     */
+    public int getMaxMembers() {
+        return maxMembers;
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 방의 리더보드가 변경되었음을 표시 (다음 주기에 한 번만 전송)
+     */
+    public void markDirty(long roomId, double goalLat, double goalLng) {
+        markedCounter.increment();
+        if (dirtyRooms.put(roomId, new Goal(goalLat, goalLng)) != null) {
+            coalescedCounter.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${leaderboard.broadcast.interval-ms:500}")
+    public void flushDirtyRooms() {
+        // Redis 가 사용 불가면 dirty 상태를 유지한 채 복구 후 전송
+        if (!redisHealthMonitor.isAvailable()) {
+            return;
+        }
+
+        for (Long roomId : dirtyRooms.keySet()) {
+            // 이전 전송이 끝나지 않은 방은 dirty 상태로 두고 다음 주기에 전송
+            if (!inFlightRooms.add(roomId)) {
+                continue;
+            }
+
+            Goal goal = dirtyRooms.remove(roomId);
+            if (goal == null) {
+                inFlightRooms.remove(roomId);
+                continue;
+            }
+
+            try {
+                executor.execute(() -> broadcast(roomId, goal));
+            } catch (RejectedExecutionException e) {
+                // 작업 큐가 가득 찬 경우 다음 주기에 다시 시도
+                rejectedCounter.increment();
+                dirtyRooms.putIfAbsent(roomId, goal);
+                inFlightRooms.remove(roomId);
+                log.warn("리더보드 브로드캐스트 작업 거부: roomId={}, queueSize={}", roomId, executor.getQueue().size());
+            }
+        }
+    }
+
+    private void broadcast(long roomId, Goal goal) {
+        try {
+            flushTimer.record(() -> {
+                List<PositionResponseDto> board = leaderboardService.getLeaderboard(roomId, goal.lat(), goal.lng(), maxMembers);
+                if (!isDeltaMode()) {
+                    topicPublisher.publish(TOPIC_PREFIX + roomId, board);
+                    return;
+                }
+
+                LeaderboardMessageDto delta = deltaTracker.diff(roomId, board);
+                if (delta == null) {
+                    unchangedCounter.increment();
+                    return;
+                }
+                topicPublisher.publish(TOPIC_PREFIX + roomId, delta);
+            });
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("리더보드 브로드캐스트 실패: roomId={}", roomId, e);
+        } finally {
+            inFlightRooms.remove(roomId);
+        }
+    }
+}
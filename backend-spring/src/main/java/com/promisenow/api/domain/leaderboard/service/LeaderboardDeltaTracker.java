@@ -0,0 +1,109 @@
+package com.promisenow.api.domain.leaderboard.service;
+
+import com.promisenow.api.domain.leaderboard.dto.LeaderboardMessageDto;
+import com.promisenow.api.domain.leaderboard.dto.PositionResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 방별로 마지막으로 전송한 리더보드 상태와 순번을 보관하고 델타를 계산한다.
+ * 스냅샷은 마지막 전송 상태로부터 만들어지므로 seq 와 항상 일치한다.
+ */
+@Slf4j
+@Component
+public class LeaderboardDeltaTracker {
+
+    // 마지막 전송 이후 이 시간 동안 갱신이 없으면 상태를 정리
+    private static final long IDLE_EVICT_MS = 30 * 60 * 1000L;
+
+    private final Map<Long, RoomState> rooms = new ConcurrentHashMap<>();
+
+    private static final class RoomState {
+        private long seq;
+        private long lastAccess = System.currentTimeMillis();
+        private Map<Long, PositionResponseDto> entries = new LinkedHashMap<>();
+    }
+
+    /**
+     * 새 리더보드와 마지막 전송 상태를 비교해 DELTA 메시지 생성
+     * @return 변경이 없으면 null
+     */
+    public LeaderboardMessageDto diff(long roomId, List<PositionResponseDto> board) {
+        RoomState state = rooms.computeIfAbsent(roomId, id -> new RoomState());
+        synchronized (state) {
+            state.lastAccess = System.currentTimeMillis();
+
+            Map<Long, PositionResponseDto> next = new LinkedHashMap<>();
+            List<PositionResponseDto> changed = new ArrayList<>();
+            for (PositionResponseDto entry : board) {
+                next.put(entry.getRoomUserId(), entry);
+                if (!Objects.equals(state.entries.get(entry.getRoomUserId()), entry)) {
+                    changed.add(entry);
+                }
+            }
+
+            List<Long> removed = new ArrayList<>();
+            for (Long roomUserId : state.entries.keySet()) {
+                if (!next.containsKey(roomUserId)) {
+                    removed.add(roomUserId);
+                }
+            }
+
+            state.entries = next;
+            if (changed.isEmpty() && removed.isEmpty()) {
+                return null;
+            }
+
+            return LeaderboardMessageDto.builder()
+                    .type(LeaderboardMessageDto.Type.DELTA)
+                    .seq(++state.seq)
+                    .entries(changed)
+                    .removed(removed)
+                    .build();
+        }
+    }
+
+    /**
+     * 마지막 전송 상태로 SNAPSHOT 메시지 생성
+     * 아직 전송한 적이 없는 방이면 loader 로 현재 리더보드를 읽어 초기 상태로 사용
+     */
+    public LeaderboardMessageDto snapshot(long roomId, Supplier<List<PositionResponseDto>> loader) {
+        RoomState state = rooms.computeIfAbsent(roomId, id -> new RoomState());
+        synchronized (state) {
+            state.lastAccess = System.currentTimeMillis();
+
+            if (state.seq == 0 && state.entries.isEmpty()) {
+                for (PositionResponseDto entry : loader.get()) {
+                    state.entries.put(entry.getRoomUserId(), entry);
+                }
+            }
+
+            return LeaderboardMessageDto.builder()
+                    .type(LeaderboardMessageDto.Type.SNAPSHOT)
+                    .seq(state.seq)
+                    .entries(new ArrayList<>(state.entries.values()))
+                    .removed(List.of())
+                    .build();
+        }
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000L)
+    public void evictIdleRooms() {
+        long threshold = System.currentTimeMillis() - IDLE_EVICT_MS;
+        rooms.entrySet().removeIf(entry -> {
+            synchronized (entry.getValue()) {
+                return entry.getValue().lastAccess < threshold;
+            }
+        });
+        log.debug("리더보드 델타 상태 정리 완료: 남은 방 수={}", rooms.size());
+    }
+}
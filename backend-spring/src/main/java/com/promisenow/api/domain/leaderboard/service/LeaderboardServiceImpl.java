@@ -1,13 +1,20 @@
 package com.promisenow.api.domain.leaderboard.service;
 
+import com.promisenow.api.domain.leaderboard.codec.PositionRecord;
+import com.promisenow.api.domain.leaderboard.dto.LeaderboardEntryDto;
 import com.promisenow.api.domain.leaderboard.dto.PositionResponseDto;
-import com.promisenow.api.domain.leaderboard.dto.UserPositionDto;
+import com.promisenow.api.domain.leaderboard.repository.LeaderboardKeys;
 import com.promisenow.api.domain.leaderboard.repository.LeaderboardRepository;
+import com.promisenow.api.global.cache.LruTtlCache;
+import com.promisenow.api.global.util.GeoDistance;
+import com.promisenow.api.infrastructure.redis.RedisHealthMonitor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.annotation.PostConstruct;
 import java.util.*;
 
 @Slf4j
@@ -16,134 +23,77 @@ import java.util.*;
 @RequiredArgsConstructor
 public class LeaderboardServiceImpl implements LeaderboardService {
     private final LeaderboardRepository leaderboardRepository;
+    private final RedisHealthMonitor redisHealthMonitor;
 
-    @Override
-    public double updateLeaderboard(long roomId, long roomUserId, double lat, double lng, boolean online, double goalLat, double goalLng) {
-        String userKey = "room:" + roomId + ":user:" + roomUserId;
-        String arrivalOrderKey = "room:" + roomId + ":arrivalOrder";
-        String leaderboardKey = "room:" + roomId + ":leaderboard";
-        long now = System.currentTimeMillis();
-
-        // Redis 연결 상태 확인
-        if (!leaderboardRepository.testConnection()) {
-            log.error("Redis 연결 실패");
-            return 0.0;
-        }
+    private static final int ONLINE_TTL_SECONDS = 60;
+    private static final double ARRIVAL_RADIUS_KM = 0.2; // 목표 지점 200m 이내면 도착
 
-        // 이전 데이터 조회
-        UserPositionDto prevPosition = leaderboardRepository.getUserPosition(userKey);
-        
-        // 이전 데이터가 없으면 빈 DTO 생성
-        if (prevPosition == null) {
-            prevPosition = UserPositionDto.empty();
-        }
+    // 방별 Redis 키 (위치 갱신마다 키 문자열을 새로 만들지 않도록 재사용)
+    private final LruTtlCache<Long, LeaderboardKeys> roomKeys = new LruTtlCache<>(10_000, 30 * 60 * 1000L);
 
-        // 출발 위치 설정 (최초 한 번만)
-        UserPositionDto positionWithStart = prevPosition.getStartLat() == null ? 
-            prevPosition.withStartPosition(lat, lng) : prevPosition;
-        Double startLat = positionWithStart.getStartLat();
-        Double startLng = positionWithStart.getStartLng();
+    // 방별 목적지 좌표 (sin/cos 를 미리 계산해 두고, 목적지가 바뀌면 다시 계산)
+    private final LruTtlCache<Long, GeoDistance.Point> roomGoals = new LruTtlCache<>(10_000, 30 * 60 * 1000L);
 
-        // 이동거리 및 목표까지 남은 거리 계산
-        double totalDistance = haversine(startLat, startLng, goalLat, goalLng);
-        double distanceLeft = haversine(lat, lng, goalLat, goalLng);
+    // haversine: 정확한 구면 거리, equirectangular: 도시 규모에서 1m 미만 오차의 평면 근사 (Lua 스크립트에도 같은 모드 적용)
+    @Value("${leaderboard.distance.mode:haversine}")
+    private String distanceModeName;
 
-        // 이미 도착한 유저는 위치/속도 등 갱신 중단, 온라인 상태 TTL만 갱신
-        if (prevPosition.getArrived() != null && Boolean.parseBoolean(prevPosition.getArrived().toString())) {
-            String onlineKey = userKey + ":online";
-            leaderboardRepository.setOnlineStatus(onlineKey, online, 60);
-            return 0.0;
-        }
+    private GeoDistance.Mode distanceMode;
 
-        // 속도 계산 (이전 위치가 있는 경우)
-        double velocity = 0.0;
-        if (prevPosition.getLat() != null && prevPosition.getLng() != null && prevPosition.getTimestamp() != null) {
-            double distanceMovedKm = haversine(prevPosition.getLat(), prevPosition.getLng(), lat, lng); // km 단위 거리
-            long timeDiffMs = now - prevPosition.getTimestamp(); // 밀리초 단위 시간차
-            if (timeDiffMs > 0) {
-                velocity = distanceMovedKm / (timeDiffMs / 3600000.0); // km/h 단위 속도
-            }
-        }
+    @PostConstruct
+    protected void init() {
+        distanceMode = GeoDistance.Mode.from(distanceModeName);
+    }
 
-        // 진행률 계산
-        double progress = totalDistance > 0 ? ((totalDistance - distanceLeft) / totalDistance) * 100.0 : 0.0;
-
-        // 도착 여부 확인 (목표 지점 200m 이내)
-        boolean arrived = distanceLeft <= 0.2; // 200m
-
-        // 새로운 위치 정보 생성
-        UserPositionDto newPosition = UserPositionDto.builder()
-                .lat(lat)
-                .lng(lng)
-                .startLat(startLat)
-                .startLng(startLng)
-                .timestamp(now)
-                .velocity(velocity)
-                .progress(progress)
-                .arrived(arrived)
-                .build();
-
-        // Redis에 저장
-        leaderboardRepository.saveUserPosition(userKey, newPosition);
-
-        // 온라인 상태 설정
-        String onlineKey = userKey + ":online";
-        leaderboardRepository.setOnlineStatus(onlineKey, online, 60);
-
-        // 도착한 경우 도착 순서 기록
-        if (arrived && (prevPosition.getArrived() == null || !Boolean.parseBoolean(prevPosition.getArrived().toString()))) {
-            leaderboardRepository.addToArrivalOrder(arrivalOrderKey, String.valueOf(roomUserId), now);
+    @Override
+    public double updateLeaderboard(long roomId, long roomUserId, double lat, double lng, boolean online, double goalLat, double goalLng) {
+        // Redis 가 사용 불가로 알려진 경우 요청마다 확인하지 않고 바로 건너뜀 (상태는 RedisHealthMonitor 가 추적)
+        if (!redisHealthMonitor.isAvailable()) {
+            log.warn("Redis 사용 불가 상태로 위치 갱신 생략: roomId={}, roomUserId={}", roomId, roomUserId);
+            return 0.0;
         }
 
-        // 리더보드에 추가
-        leaderboardRepository.addToLeaderboard(leaderboardKey, String.valueOf(roomUserId), progress);
-
-        return velocity;
+        // 이전 위치 조회 → 속도/진행률/도착 계산 → 저장까지 Redis 한 번의 라운드트립으로 처리
+        return leaderboardRepository.updateUserPosition(
+                keysOf(roomId),
+                roomUserId,
+                lat,
+                lng,
+                online,
+                goalLat,
+                goalLng,
+                System.currentTimeMillis(),
+                ONLINE_TTL_SECONDS,
+                ARRIVAL_RADIUS_KM,
+                distanceMode
+        );
     }
 
     @Override
     public List<PositionResponseDto> getLeaderboard(long roomId, double goalLat, double goalLng, int topN) {
-        String leaderboardKey = "room:" + roomId + ":leaderboard";
-        
-        // 전체 사용자 수 조회
-        Long totalUsers = leaderboardRepository.getLeaderboardSize(leaderboardKey);
-        if (totalUsers == null || totalUsers == 0) {
-            return new ArrayList<>();
-        }
+        LeaderboardKeys keys = keysOf(roomId);
 
-        // 실제 조회할 사용자 수 결정 (전체 사용자 수와 요청된 topN 중 작은 값)
-        int actualTopN = Math.min(totalUsers.intValue(), topN);
-        
-        // 상위 사용자 ID 목록 조회
-        Set<Object> roomUserIds = leaderboardRepository.getTopUsers(leaderboardKey, actualTopN);
-        if (roomUserIds == null || roomUserIds.isEmpty()) {
+        // 리더보드 순위 순서대로 위치/온라인 정보를 한 번에 조회
+        List<LeaderboardEntryDto> entries = leaderboardRepository.getLeaderboardEntries(keys.leaderboardKey(), keys.userKeyPrefix(), topN);
+        if (entries.isEmpty()) {
             return new ArrayList<>();
         }
 
-        List<PositionResponseDto> positions = new ArrayList<>();
-        
-        for (Object roomUserIdObj : roomUserIds) {
-            String roomUserId = roomUserIdObj.toString();
-            String userKey = "room:" + roomId + ":user:" + roomUserId;
-            String onlineKey = userKey + ":online";
+        GeoDistance.Point goal = goalOf(roomId, goalLat, goalLng);
+        List<PositionResponseDto> positions = new ArrayList<>(entries.size());
 
-            // 온라인 상태 확인 (오프라인도 포함)
-            boolean isOnline = leaderboardRepository.isOnline(onlineKey);
-
-            UserPositionDto userInfo = leaderboardRepository.getUserPosition(userKey);
-            if (userInfo == null) {
-                continue;
-            }
+        for (LeaderboardEntryDto entry : entries) {
+            PositionRecord userInfo = entry.getPosition();
 
             PositionResponseDto dto = new PositionResponseDto();
-            dto.setRoomUserId(Long.parseLong(roomUserId));
-            dto.setLat(userInfo.getLat() != null ? userInfo.getLat() : 0);
-            dto.setLng(userInfo.getLng() != null ? userInfo.getLng() : 0);
-            dto.setVelocity(userInfo.getVelocity() != null ? userInfo.getVelocity() : 0);
-            dto.setDistance(haversine(dto.getLat(), dto.getLng(), goalLat, goalLng));
-            dto.setProgress(userInfo.getProgress() != null ? userInfo.getProgress() : 0.0);
-            dto.setArrived(userInfo.getArrived() != null && Boolean.parseBoolean(userInfo.getArrived().toString()));
-            dto.setOnline(isOnline);  // 실제 온라인 상태 설정
+            dto.setRoomUserId(entry.getRoomUserId());
+            dto.setLat(userInfo.hasPosition() ? userInfo.getLat() : 0);
+            dto.setLng(userInfo.hasPosition() ? userInfo.getLng() : 0);
+            dto.setVelocity(userInfo.getVelocity());
+            dto.setDistance(GeoDistance.distanceKm(distanceMode, goal, dto.getLat(), dto.getLng()));
+            dto.setProgress(userInfo.getProgress());
+            dto.setArrived(userInfo.isArrived());
+            dto.setOnline(entry.isOnline());  // 실제 온라인 상태 설정
 
             positions.add(dto);
         }
@@ -151,16 +101,17 @@ public class LeaderboardServiceImpl implements LeaderboardService {
         return positions;
     }
 
-    // 하버사인 공식으로 두 좌표 간 거리(km) 계산
-    private double haversine(double lat1, double lng1, double lat2, double lng2) {
-        final int R = 6371; // 지구 반경(km)
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLng = Math.toRadians(lng2 - lng1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
+    private LeaderboardKeys keysOf(long roomId) {
+        return roomKeys.get(roomId, LeaderboardKeys::of);
+    }
+
+    private GeoDistance.Point goalOf(long roomId, double goalLat, double goalLng) {
+        GeoDistance.Point goal = roomGoals.get(roomId);
+        if (goal == null || !goal.isAt(goalLat, goalLng)) {
+            goal = GeoDistance.Point.of(goalLat, goalLng);
+            roomGoals.put(roomId, goal);
+        }
+        return goal;
     }
 
     public Long getLeaderboardSize(String leaderboardKey) {
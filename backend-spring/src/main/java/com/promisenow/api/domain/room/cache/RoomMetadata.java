@@ -0,0 +1,45 @@
+package com.promisenow.api.domain.room.cache;
+
+import com.promisenow.api.domain.room.entity.Room;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 캐시용 방 정보 스냅샷 (변경이 드문 필드만 보관하는 불변 객체)
+ */
+public record RoomMetadata(
+        Long roomId,
+        String roomTitle,
+        Room.RoomState roomState,
+        String inviteCode,
+        LocalDate locationDate,
+        LocalTime locationTime,
+        String locationName,
+        Double locationLat,
+        Double locationLng,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+
+    public static RoomMetadata from(Room room) {
+        return new RoomMetadata(
+                room.getRoomId(),
+                room.getRoomTitle(),
+                room.getRoomState(),
+                room.getInviteCode(),
+                room.getLocationDate(),
+                room.getLocationTime(),
+                room.getLocationName(),
+                room.getLocationLat(),
+                room.getLocationLng(),
+                room.getStartDate(),
+                room.getEndDate()
+        );
+    }
+
+    // 목적지 좌표가 설정되어 있는지
+    public boolean hasDestination() {
+        return locationLat != null && locationLng != null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.promisenow.api.domain.room.cache;
+
+import com.promisenow.api.common.AppException;
+import com.promisenow.api.common.ErrorCode;
+import com.promisenow.api.domain.room.repository.RoomRepository;
+import com.promisenow.api.global.cache.LruTtlCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * 방 메타데이터(제목, 상태, 목적지 좌표 등) 인메모리 캐시
+ * 위치 갱신 같은 핫 경로가 DB 를 거치지 않도록 하고, 방 정보 변경 시 invalidate 로 제거한다.
+ * 제거는 Redis 채널로 다른 인스턴스에도 전파한다. 전파에 실패하면 다른 인스턴스는 최대 ttl-seconds 동안 이전 값을 볼 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomMetadataCache {
+
+    private final RoomRepository roomRepository;
+    private final MeterRegistry meterRegistry;
+    private final RedisConnectionFactory connectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${room.metadata-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${room.metadata-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 캐시 제거 전파 채널 (메시지 본문은 roomId)
+    @Value("${room.metadata-cache.invalidation-channel:room:metadata:invalidate}")
+    private String invalidationChannel;
+
+    private LruTtlCache<Long, RoomMetadata> cache;
+    private RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    protected void init() {
+        cache = new LruTtlCache<>(maxSize, ttlSeconds * 1000);
+        Gauge.builder("room.metadata.cache.size", cache, LruTtlCache::size).register(meterRegistry);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        // 캐시 제거만 하므로 구독 스레드에서 바로 처리
+        listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+        listenerContainer.addMessageListener(this::onInvalidation, new ChannelTopic(invalidationChannel));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @PreDestroy
+    protected void shutdown() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    /**
+     * 방 메타데이터 조회 (캐시에 없으면 DB 에서 적재)
+     */
+    public Optional<RoomMetadata> find(Long roomId) {
+        return Optional.ofNullable(cache.get(roomId, id -> roomRepository.findById(id)
+                .map(RoomMetadata::from)
+                .orElse(null)));
+    }
+
+    /**
+     * 방 메타데이터 조회, 방이 없으면 ROOM_NOT_FOUND
+     */
+    public RoomMetadata getOrThrow(Long roomId) {
+        return find(roomId).orElseThrow(() -> new AppException(ErrorCode.ROOM_NOT_FOUND));
+    }
+
+    /**
+     * 방 정보 변경 시 캐시 제거
+     * 트랜잭션 안이면 커밋 이후에 한 번 더 제거해서, 커밋 전에 다시 적재된 이전 값이 남지 않게 한다.
+     */
+    public void invalidate(Long roomId) {
+        cache.invalidate(roomId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(roomId);
+                    publishInvalidation(roomId);
+                }
+            });
+        } else {
+            publishInvalidation(roomId);
+        }
+        log.debug("방 메타데이터 캐시 제거: roomId={}", roomId);
+    }
+
+    // 다른 인스턴스에 제거 전파 (자신도 받지만 제거만 하므로 무해)
+    private void publishInvalidation(Long roomId) {
+        try {
+            stringRedisTemplate.convertAndSend(invalidationChannel, String.valueOf(roomId));
+        } catch (RuntimeException e) {
+            log.warn("방 메타데이터 캐시 제거 전파 실패, 다른 인스턴스는 TTL 만료 후 갱신: roomId={}, error={}",
+                    roomId, e.getMessage());
+        }
+    }
+
+    private void onInvalidation(Message message, byte[] pattern) {
+        try {
+            cache.invalidate(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 방 메타데이터 캐시 제거 메시지: channel={}", invalidationChannel);
+        }
+    }
+}
@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "room_user")
+@Table(name = "room_user", uniqueConstraints = {
+        // 한 방에 같은 사용자(피노 포함)는 한 번만 참여
+        @UniqueConstraint(name = "uk_room_user_room_id_user_id", columnNames = {"room_id", "user_id"})
+})
 @Getter
 @Builder
 @NoArgsConstructor
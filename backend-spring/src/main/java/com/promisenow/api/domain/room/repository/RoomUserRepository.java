@@ -1,6 +1,8 @@
 package com.promisenow.api.domain.room.repository;
 
 import com.promisenow.api.domain.room.entity.RoomUser;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -28,4 +30,9 @@ public interface RoomUserRepository extends JpaRepository<RoomUser, Long> {
 
     // roomId와 userId로 사용자 검색
     Optional<RoomUser> findByRoom_RoomIdAndUser_UserId(Long roomId, Long userId);
+
+    // 참여자 행 잠금 조회 (SELECT ... FOR UPDATE), 같은 참여자의 일정 저장을 트랜잭션 단위로 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ru FROM RoomUser ru WHERE ru.roomUserId = :roomUserId")
+    Optional<RoomUser> findByIdForUpdate(@Param("roomUserId") Long roomUserId);
 }
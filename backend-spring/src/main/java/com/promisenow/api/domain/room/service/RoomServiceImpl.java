@@ -2,6 +2,9 @@ package com.promisenow.api.domain.room.service;
 
 import com.promisenow.api.common.AppException;
 import com.promisenow.api.common.ErrorCode;
+import com.promisenow.api.domain.chat.service.PinoMemberCache;
+import com.promisenow.api.domain.room.cache.RoomMetadata;
+import com.promisenow.api.domain.room.cache.RoomMetadataCache;
 import com.promisenow.api.domain.room.dto.RoomRequestDto.*;
 import com.promisenow.api.domain.room.dto.RoomResponseDto.*;
 import com.promisenow.api.domain.room.entity.Room;
@@ -28,6 +31,8 @@ public class RoomServiceImpl implements RoomService {
     private final RoomRepository roomRepository;
     private final RoomUserRepository roomUserRepository;
     private final UserRepository userRepository;
+    private final RoomMetadataCache roomMetadataCache;
+    private final PinoMemberCache pinoMemberCache;
 
     // 메서드로 묶어서 관리
     // 방을 찾지 못하면
@@ -103,40 +108,42 @@ public class RoomServiceImpl implements RoomService {
         }
 
         roomRepository.delete(room);
+        roomMetadataCache.invalidate(roomId);
+        pinoMemberCache.invalidate(roomId);
     }
 
     // 방제목 & 방참여코드 GET
     @Override
     public TitleCodeResponse getRoomTitleAndCode(Long roomId) {
-        Room room = findRoomOrThrow(roomId);
-        return new TitleCodeResponse(room.getRoomTitle(), room.getInviteCode());
+        RoomMetadata room = roomMetadataCache.getOrThrow(roomId);
+        return new TitleCodeResponse(room.roomTitle(), room.inviteCode());
     }
 
     // 방 상태 GET
     @Override
     public StateResponse getRoomStatus(Long roomId) {
-        Room room = findRoomOrThrow(roomId);
-        return new StateResponse(room.getRoomState());
+        RoomMetadata room = roomMetadataCache.getOrThrow(roomId);
+        return new StateResponse(room.roomState());
     }
 
     // 방 약속기간 GET
     @Override
     public DateRangeResponse getRoomDateRange(Long roomId) {
-        Room room = findRoomOrThrow(roomId);
-        return new DateRangeResponse(room.getStartDate(), room.getEndDate());
+        RoomMetadata room = roomMetadataCache.getOrThrow(roomId);
+        return new DateRangeResponse(room.startDate(), room.endDate());
     }
 
     // 방 세부약속 GET
     @Override
     public AppointmentResponse getRoomAppointment(Long roomId) {
-        Room room = findRoomOrThrow(roomId);
+        RoomMetadata room = roomMetadataCache.getOrThrow(roomId);
 
         return new AppointmentResponse(
-                room.getLocationDate(),
-                room.getLocationTime(),
-                room.getLocationName(),
-                room.getLocationLat(),
-                room.getLocationLng()
+                room.locationDate(),
+                room.locationTime(),
+                room.locationName(),
+                room.locationLat(),
+                room.locationLng()
         );
     }
 
@@ -232,6 +239,7 @@ public class RoomServiceImpl implements RoomService {
         Room room = findRoomOrThrow(roomId);
 
         room.updateTitle(newTitle);
+        roomMetadataCache.invalidate(roomId);
     }
 
     // 일정 기간 조절
@@ -241,6 +249,7 @@ public class RoomServiceImpl implements RoomService {
         Room room = findRoomOrThrow(roomId);
 
         room.upadteDateRange(request.getStartDate(), request.getEndDate());
+        roomMetadataCache.invalidate(roomId);
     }
 
     @Override
@@ -254,6 +263,7 @@ public class RoomServiceImpl implements RoomService {
                 request.getLocationName(),
                 request.getLocationLat(),
                 request.getLocationLng());
+        roomMetadataCache.invalidate(roomId);
     }
 
     // 시간 확인하고 방 상태 Activate로 변경
@@ -274,7 +284,8 @@ public class RoomServiceImpl implements RoomService {
                     room.getLocationTime()
             );
 
-            RoomState currentState = room.getRoomState();
+            RoomState initialState = room.getRoomState();
+            RoomState currentState = initialState;
 
             // 실수로 시간 이전으로 하면 WAITING으로 다시 변경
             if (currentState == RoomState.COMPLETED) {
@@ -303,6 +314,10 @@ public class RoomServiceImpl implements RoomService {
                     room.changeRoomState(RoomState.COMPLETED);
                 }
             }
+
+            if (room.getRoomState() != initialState) {
+                roomMetadataCache.invalidate(room.getRoomId());
+            }
         }
     }
 
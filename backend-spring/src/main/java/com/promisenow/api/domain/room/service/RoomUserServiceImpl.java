@@ -5,6 +5,9 @@ import com.promisenow.api.common.ErrorCode;
 import com.promisenow.api.common.FileUploadConstants;
 import com.promisenow.api.infrastructure.file.dto.FileUploadRequest;
 import com.promisenow.api.infrastructure.file.service.FileUploadService;
+import com.promisenow.api.domain.availability.repository.AvailabilityHeatmapRepository;
+import com.promisenow.api.domain.room.cache.RoomMetadata;
+import com.promisenow.api.domain.room.cache.RoomMetadataCache;
 import com.promisenow.api.domain.room.dto.RoomUserRequestDto.*;
 import com.promisenow.api.domain.room.dto.RoomUserResponseDto.*;
 import com.promisenow.api.domain.room.entity.Room;
@@ -13,12 +16,11 @@ import com.promisenow.api.domain.room.repository.RoomRepository;
 import com.promisenow.api.domain.room.repository.RoomUserRepository;
 import com.promisenow.api.domain.user.entity.User;
 import com.promisenow.api.domain.user.repository.UserRepository;
+import com.promisenow.api.domain.leaderboard.repository.LeaderboardKeys;
 import com.promisenow.api.domain.leaderboard.repository.LeaderboardRepository;
-import com.promisenow.api.domain.leaderboard.service.LeaderboardService;
-import com.promisenow.api.domain.leaderboard.dto.PositionResponseDto;
+import com.promisenow.api.domain.leaderboard.scheduler.LeaderboardBroadcastScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,14 +38,14 @@ public class RoomUserServiceImpl implements RoomUserService {
     private final UserRepository userRepository;
     private final FileUploadService fileUploadService;
     private final LeaderboardRepository leaderboardRepository;
-    private final LeaderboardService leaderboardService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final LeaderboardBroadcastScheduler leaderboardBroadcastScheduler;
+    private final AvailabilityHeatmapRepository availabilityHeatmapRepository;
+    private final RoomMetadataCache roomMetadataCache;
 
 
     // ---------- 공통 헬퍼 ----------
-    private Room findRoomOrThrow(Long roomId) {
-        return roomRepository.findById(roomId)
-                .orElseThrow(() -> new AppException(ErrorCode.ROOM_NOT_FOUND));
+    private RoomMetadata findRoomOrThrow(Long roomId) {
+        return roomMetadataCache.getOrThrow(roomId);
     }
 
     private User findUserOrThrow(Long userId) {
@@ -85,24 +87,15 @@ public class RoomUserServiceImpl implements RoomUserService {
 
 
         // 방 참가 시 리더보드에 초기 점수로 추가 (매우 높은 점수로 설정하여 하위권에 배치)
-        String leaderboardKey = "room:" + room.getRoomId() + ":leaderboard";
+        String leaderboardKey = LeaderboardKeys.of(room.getRoomId()).leaderboardKey();
         leaderboardRepository.addToLeaderboard(leaderboardKey, String.valueOf(roomUser.getRoomUserId()), 999999.0);
 
-        // 새로운 사용자 참가 시 기존 사용자들에게 실시간 알림
+        // 새로운 사용자 참가 시 기존 사용자들에게 실시간 알림 (다음 브로드캐스트 주기에 전송)
         try {
             if (room.getLocationLat() != null && room.getLocationLng() != null) {
-                // 현재 리더보드 상태를 조회하여 모든 사용자에게 브로드캐스트
-                List<PositionResponseDto> currentLeaderboard = leaderboardService.getLeaderboard(
-                        room.getRoomId(),
-                        room.getLocationLat(),
-                        room.getLocationLng(),
-                        100 // 충분히 큰 수로 설정
-                );
-                
-                // WebSocket으로 기존 사용자들에게 새로운 리더보드 상태 전송
-                messagingTemplate.convertAndSend("/topic/leaderboard/" + room.getRoomId(), currentLeaderboard);
-                
-                log.info("새로운 사용자 참가 알림 전송: roomId={}, roomUserId={}, nickname={}",
+                leaderboardBroadcastScheduler.markDirty(room.getRoomId(), room.getLocationLat(), room.getLocationLng());
+
+                log.info("새로운 사용자 참가 알림 예약: roomId={}, roomUserId={}, nickname={}",
                         room.getRoomId(), roomUser.getRoomUserId(), request.getNickname());
             }
         } catch (Exception e) {
@@ -121,6 +114,12 @@ public class RoomUserServiceImpl implements RoomUserService {
     public void quitRoom(Long roomId, Long userId) {
         RoomUser roomUser = findRoomUserOrThrow(roomId, userId);
         roomUserRepository.delete(roomUser);
+        // 나간 사용자의 일정이 빠지도록 히트맵을 다시 시드
+        try {
+            availabilityHeatmapRepository.invalidate(roomId);
+        } catch (Exception e) {
+            log.warn("일정 히트맵 제거 실패: roomId={}, error={}", roomId, e.getMessage());
+        }
     }
 
     // 방에 들어와있는 사람들의 닉네임과 이미지 확인
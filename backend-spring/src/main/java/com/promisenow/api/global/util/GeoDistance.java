@@ -0,0 +1,81 @@
+package com.promisenow.api.global.util;
+
+/**
+ * 두 좌표 간 거리(km) 계산 유틸
+ * 정확한 하버사인과, 도시 규모(수십 km 이내)에서 오차가 1m 보다 훨씬 작은 등장방형(equirectangular) 근사를 제공한다.
+ * 목적지처럼 반복해서 쓰이는 좌표는 Point 로 한 번만 만들어 라디안/sin/cos 값을 재사용한다.
+ */
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    public enum Mode {
+        HAVERSINE,
+        EQUIRECTANGULAR;
+
+        /**
+         * 설정값(haversine / equirectangular)을 모드로 변환, 알 수 없는 값은 HAVERSINE
+         */
+        public static Mode from(String value) {
+            return "equirectangular".equalsIgnoreCase(value) ? EQUIRECTANGULAR : HAVERSINE;
+        }
+    }
+
+    /**
+     * 삼각함수 값을 미리 계산해 둔 좌표
+     */
+    public record Point(double lat, double lng, double latRad, double lngRad, double sinLat, double cosLat) {
+
+        public static Point of(double lat, double lng) {
+            double latRad = Math.toRadians(lat);
+            return new Point(lat, lng, latRad, Math.toRadians(lng), Math.sin(latRad), Math.cos(latRad));
+        }
+
+        public boolean isAt(double lat, double lng) {
+            return this.lat == lat && this.lng == lng;
+        }
+    }
+
+    private GeoDistance() {
+    }
+
+    /**
+     * 하버사인 공식으로 두 좌표 간 거리(km) 계산
+     */
+    public static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        return distanceKm(Mode.HAVERSINE, Point.of(lat2, lng2), lat1, lng1);
+    }
+
+    /**
+     * 기준 좌표(from)와 임의 좌표 간 거리(km) 계산
+     */
+    public static double distanceKm(Mode mode, Point from, double lat, double lng) {
+        double latRad = Math.toRadians(lat);
+        double dLat = latRad - from.latRad();
+        double dLng = normalizeLongitude(Math.toRadians(lng) - from.lngRad());
+
+        if (mode == Mode.EQUIRECTANGULAR) {
+            // cos(중간 위도) = cos(기준 위도 + dLat/2) 를 덧셈정리와 짧은 급수로 계산 (삼각함수 호출 없음)
+            double h = dLat / 2;
+            double h2 = h * h;
+            double cosH = 1 - h2 / 2 + h2 * h2 / 24;
+            double sinH = h * (1 - h2 / 6);
+            double cosMeanLat = from.cosLat() * cosH - from.sinLat() * sinH;
+
+            double x = dLng * cosMeanLat;
+            return EARTH_RADIUS_KM * Math.sqrt(x * x + dLat * dLat);
+        }
+
+        double sinHalfLat = Math.sin(dLat / 2);
+        double sinHalfLng = Math.sin(dLng / 2);
+        double a = sinHalfLat * sinHalfLat + from.cosLat() * Math.cos(latRad) * sinHalfLng * sinHalfLng;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // 경도 차이를 [-π, π] 로 보정 (날짜변경선을 넘는 경우)
+    private static double normalizeLongitude(double dLng) {
+        if (dLng > Math.PI) return dLng - 2 * Math.PI;
+        if (dLng < -Math.PI) return dLng + 2 * Math.PI;
+        return dLng;
+    }
+}
@@ -0,0 +1,326 @@
+package com.promisenow.api.infrastructure.ai;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * GMS(OpenAI 호환) chat completions 호출 클라이언트
+ * JDK HttpClient 하나를 공유해 keep-alive 연결(HTTP/2 는 스트림 다중화)을 재사용하고,
+ * 응답은 트리로 만들지 않고 choices[0].message.content 만 스트리밍 파서로 읽는다.
+ */
+@Slf4j
+@Component
+public class GmsClient {
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final String SSE_DATA_PREFIX = "data:";
+    private static final String SSE_DONE = "[DONE]";
+
+    @Value("${gms.endpoint:https://gms.ssafy.io/gmsapi/api.openai.com/v1/chat/completions}")
+    private String endpoint;
+
+    @Value("${gms.key}")
+    private String gmsKey;
+
+    @Value("${gms.model:gpt-4.1-nano}")
+    private String model;
+
+    @Value("${gms.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${gms.read-timeout-ms:20000}")
+    private long readTimeoutMs;
+
+    // 동시에 진행할 수 있는 최대 요청 수 (초과 요청은 대기)
+    @Value("${gms.http.max-concurrent-requests:16}")
+    private int maxConcurrentRequests;
+
+    @Value("${gms.http.threads:4}")
+    private int threads;
+
+    private HttpClient httpClient;
+    private ExecutorService httpExecutor;
+    private Semaphore permits;
+    private URI endpointUri;
+
+    @PostConstruct
+    protected void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        httpExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "gms-http-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(httpExecutor)
+                .build();
+        permits = new Semaphore(maxConcurrentRequests);
+        endpointUri = URI.create(endpoint);
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        httpExecutor.shutdown();
+    }
+
+    /**
+     * 한 번의 요청이 응답 본문 수신까지 끝날 때까지 걸릴 수 있는 최대 시간 (넘으면 교환을 취소)
+     */
+    public long getRequestTimeoutMillis() {
+        return connectTimeoutMs + readTimeoutMs;
+    }
+
+    /**
+     * chat completion 요청 후 첫 번째 응답 본문 반환
+     */
+    public String complete(String systemPrompt, String userMessage, double temperature, int maxTokens)
+            throws IOException, InterruptedException {
+        HttpRequest request = buildRequest(systemPrompt, userMessage, temperature, maxTokens, false);
+
+        acquirePermit();
+        try {
+            // 본문까지 모두 받아야 완료되는 핸들러로 보내서, 헤더 이후 본문이 멈춘 경우도 제한 시간에 걸리게 함
+            HttpResponse<byte[]> response = await(
+                    httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()));
+            checkStatus(response);
+            String content;
+            try (JsonParser parser = JSON.createParser(response.body())) {
+                content = readFirstChoiceText(parser, "message");
+            }
+            if (content == null) {
+                throw new IOException("GMS 응답에 choices[0].message.content 가 없습니다");
+            }
+            return content;
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * stream=true 로 요청하고 SSE 이벤트마다 choices[0].delta.content 조각을 onDelta 로 전달
+     * 조각은 HTTP 클라이언트 스레드에서 순서대로 전달된다.
+     * @return 조각을 모두 이어붙인 최종 응답
+     */
+    public String completeStreaming(String systemPrompt, String userMessage, double temperature, int maxTokens,
+                                    Consumer<String> onDelta) throws IOException, InterruptedException {
+        HttpRequest request = buildRequest(systemPrompt, userMessage, temperature, maxTokens, true);
+        SseDeltaSubscriber subscriber = new SseDeltaSubscriber(onDelta);
+
+        acquirePermit();
+        try {
+            // 오류 응답 본문은 SSE 로 해석하지 않고 버림
+            HttpResponse<Void> response = await(httpClient.sendAsync(request, info -> info.statusCode() / 100 == 2
+                    ? HttpResponse.BodySubscribers.fromLineSubscriber(subscriber)
+                    : HttpResponse.BodySubscribers.discarding()));
+            checkStatus(response);
+            if (subscriber.failure != null) {
+                throw subscriber.failure;
+            }
+            return subscriber.text.toString();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 응답 본문 수신 완료까지 전체 제한 시간(getRequestTimeoutMillis) 안에서 대기
+     * HttpRequest.timeout 은 응답 헤더까지만 적용되므로, 시간이 지나면 교환을 취소해 연결과 대기 스레드를 돌려받는다.
+     */
+    private <T> HttpResponse<T> await(CompletableFuture<HttpResponse<T>> exchange)
+            throws IOException, InterruptedException {
+        try {
+            return exchange.get(getRequestTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            exchange.cancel(true);
+            throw new HttpTimeoutException("GMS 응답 시간 초과: " + getRequestTimeoutMillis() + "ms");
+        } catch (InterruptedException e) {
+            exchange.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IOException("GMS 요청 실패", e.getCause());
+        }
+    }
+
+    private HttpRequest buildRequest(String systemPrompt, String userMessage, double temperature, int maxTokens,
+                                     boolean stream) throws IOException {
+        return HttpRequest.newBuilder(endpointUri)
+                .timeout(Duration.ofMillis(readTimeoutMs))
+                .header("Content-Type", "application/json")
+                .header("Accept", stream ? "text/event-stream" : "application/json")
+                .header("Authorization", "Bearer " + gmsKey)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(
+                        writeRequestBody(systemPrompt, userMessage, temperature, maxTokens, stream)))
+                .build();
+    }
+
+    private void acquirePermit() throws IOException, InterruptedException {
+        if (!permits.tryAcquire(readTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new IOException("GMS 동시 요청 한도 초과");
+        }
+    }
+
+    private static void checkStatus(HttpResponse<?> response) throws IOException {
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("GMS 응답 오류: status=" + response.statusCode());
+        }
+    }
+
+    private byte[] writeRequestBody(String systemPrompt, String userMessage, double temperature, int maxTokens,
+                                    boolean stream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 + userMessage.length() * 3);
+        try (JsonGenerator generator = JSON.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("model", model);
+            generator.writeNumberField("max_tokens", maxTokens);
+            generator.writeNumberField("temperature", temperature);
+            if (stream) {
+                generator.writeBooleanField("stream", true);
+            }
+            generator.writeArrayFieldStart("messages");
+            writeMessage(generator, "system", systemPrompt);
+            writeMessage(generator, "user", userMessage);
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeMessage(JsonGenerator generator, String role, String content) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("role", role);
+        generator.writeStringField("content", content);
+        generator.writeEndObject();
+    }
+
+    /**
+     * SSE 응답을 줄 단위로 받아 data 이벤트의 delta 조각을 이어붙이고 onDelta 로 전달
+     * onDelta 가 실패하면 이후 조각은 전달하지 않고, 응답이 끝난 뒤 호출한 쪽에서 예외를 다시 던진다.
+     */
+    private static final class SseDeltaSubscriber implements Flow.Subscriber<String> {
+
+        private final Consumer<String> onDelta;
+        private final StringBuilder text = new StringBuilder();
+        private RuntimeException failure;
+        private boolean done;
+
+        private SseDeltaSubscriber(Consumer<String> onDelta) {
+            this.onDelta = onDelta;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (done || !line.startsWith(SSE_DATA_PREFIX)) {
+                return; // 빈 줄, 주석, event/id 필드, [DONE] 이후
+            }
+            String data = line.substring(SSE_DATA_PREFIX.length()).trim();
+            if (SSE_DONE.equals(data)) {
+                done = true;
+                return;
+            }
+            String delta;
+            try (JsonParser parser = JSON.createParser(data)) {
+                delta = readFirstChoiceText(parser, "delta");
+            } catch (IOException e) {
+                log.debug("GMS 스트리밍 이벤트 해석 실패, 건너뜀: {}", data);
+                return;
+            }
+            if (delta == null || delta.isEmpty()) {
+                return;
+            }
+            text.append(delta);
+            if (failure != null) {
+                return;
+            }
+            try {
+                onDelta.accept(delta);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            // 교환 결과(CompletableFuture)로 전달됨
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    /**
+     * 응답 JSON 에서 choices[0].{objectField}.content 만 읽고 나머지는 건너뜀 (없으면 null)
+     * 일반 응답은 objectField = "message", 스트리밍 이벤트는 "delta"
+     */
+    static String readFirstChoiceText(JsonParser parser, String objectField) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                return parser.nextToken() == JsonToken.START_OBJECT ? readContent(parser, objectField) : null;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    // choices[0] 객체 안에서 {objectField}.content 탐색
+    private static String readContent(JsonParser parser, String objectField) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (objectField.equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String contentField = parser.currentName();
+                    JsonToken contentValue = parser.nextToken();
+                    if ("content".equals(contentField) && contentValue == JsonToken.VALUE_STRING) {
+                        return parser.getText();
+                    }
+                    parser.skipChildren();
+                }
+                return null;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,152 @@
+package com.promisenow.api.infrastructure.db;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 스키마 보정
+ * 엔티티 애너테이션(@Index 등)은 Hibernate 가 스키마를 관리할 때만 반영되므로,
+ * 운영 DB 에 필요한 컬럼/인덱스를 컨텍스트 초기화(DDL) 이후에 확인하고 없으면 만들고, 새 컬럼은 기존 행을 백필한다.
+ * 모든 작업은 여러 번 실행해도 결과가 같도록 작성하고, 실패해도 기동은 계속한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaPatchRunner implements ApplicationRunner {
+
+    // 백필 한 번에 훑을 기본 키 구간 크기 (긴 잠금 방지)
+    private static final int BACKFILL_BATCH_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${schema.patch.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        // 채팅 키셋 페이지네이션 (sent_date, message_id) 정렬/범위 조회용, Chat 엔티티의 인덱스와 같음
+        ensureIndex("chat", "idx_chat_sent_date_message_id", "sent_date, message_id");
+
+        // 방 참여자 중복 방지, 피노 멤버 동시 생성 시 PinoMemberCache 가 이 제약 위반으로 경합을 감지함
+        ensureUniqueIndex("room_user", "uk_room_user_room_id_user_id", "room_id, user_id");
+
+        // 일정 비트셋 (슬롯 i = i 번째 비트, TimeSlotCodec). 컬럼 추가 후 timedata 문자열에서 백필
+        if (ensureColumn("availability", "time_bits", "BIGINT NOT NULL DEFAULT 0")) {
+            backfillAvailabilityTimeBits();
+        }
+    }
+
+    /**
+     * 기존 행의 time_bits 를 timedata 에서 계산
+     * REVERSE 로 슬롯 0 을 최하위 비트로 맞춘 뒤 2진수 문자열을 정수로 변환한다. (TimeSlotCodec.encode 와 같은 결과)
+     * 기본 키 구간 단위로 한 번씩만 훑으므로, 변환 결과가 0 인 행이나 영향 행 수 대신 일치 행 수를 돌려주는 드라이버에서도 끝난다.
+     * 이미 채워진 행은 건너뛰므로 재기동 시에는 남은 행만 갱신한다.
+     */
+    private void backfillAvailabilityTimeBits() {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(availability_id) FROM availability", Long.class);
+            if (maxId == null) {
+                return;
+            }
+            long total = 0;
+            for (long lastId = 0; lastId < maxId; lastId += BACKFILL_BATCH_SIZE) {
+                total += jdbcTemplate.update(
+                        "UPDATE availability "
+                                + "SET time_bits = CAST(CONV(REVERSE(LEFT(timedata, 30)), 2, 10) AS UNSIGNED) "
+                                + "WHERE availability_id > ? AND availability_id <= ? "
+                                + "AND time_bits = 0 AND LEFT(timedata, 30) LIKE '%1%'",
+                        lastId, lastId + BACKFILL_BATCH_SIZE);
+            }
+            if (total > 0) {
+                log.info("availability.time_bits 백필: {}건", total);
+            }
+        } catch (DataAccessException e) {
+            log.error("availability.time_bits 백필 실패", e);
+        }
+    }
+
+    /**
+     * 컬럼이 없으면 추가 (Hibernate 가 스키마를 관리하지 않는 환경용)
+     *
+     * @return 컬럼이 존재하면 true
+     */
+    private boolean ensureColumn(String table, String column, String definition) {
+        if (!tableExists(table)) {
+            return false;
+        }
+        if (columnExists(table, column)) {
+            return true;
+        }
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+            log.info("컬럼 추가: {}.{} ({})", table, column, definition);
+            return true;
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 동시에 추가한 경우는 무시
+            if (columnExists(table, column)) {
+                return true;
+            }
+            log.error("컬럼 추가 실패: {}.{}", table, column, e);
+            return false;
+        }
+    }
+
+    private void ensureIndex(String table, String indexName, String columns) {
+        createIndexIfAbsent("CREATE INDEX", table, indexName, columns);
+    }
+
+    /**
+     * 유니크 인덱스가 없으면 생성 (이미 중복 행이 있으면 실패를 기록하고 넘어감)
+     */
+    private void ensureUniqueIndex(String table, String indexName, String columns) {
+        createIndexIfAbsent("CREATE UNIQUE INDEX", table, indexName, columns);
+    }
+
+    private void createIndexIfAbsent(String createStatement, String table, String indexName, String columns) {
+        if (!tableExists(table) || indexExists(table, indexName)) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute(createStatement + " " + indexName + " ON " + table + " (" + columns + ")");
+            log.info("인덱스 생성: {}.{} ({})", table, indexName, columns);
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 동시에 만든 경우는 무시
+            if (!indexExists(table, indexName)) {
+                log.error("인덱스 생성 실패: {}.{}", table, indexName, e);
+            }
+        }
+    }
+
+    private boolean tableExists(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private boolean columnExists(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns "
+                        + "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+
+    private boolean indexExists(String table, String indexName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                        + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, indexName);
+        return count != null && count > 0;
+    }
+}
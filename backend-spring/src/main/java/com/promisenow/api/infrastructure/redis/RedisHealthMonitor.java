@@ -0,0 +1,153 @@
+package com.promisenow.api.infrastructure.redis;
+
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 연결 상태 백그라운드 모니터
+ * 주기적인 PING 으로 상태를 추적해서, 요청 경로에서는 별도 확인 없이 상태만 읽도록 한다.
+ * Lettuce 연결 이벤트는 즉시 PING 을 앞당기는 용도로만 쓴다.
+ * (정상 종료나 pub/sub 리스너 연결의 해제도 같은 이벤트로 오므로 이벤트만으로는 down 처리하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisHealthMonitor {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final ObjectProvider<ClientResources> clientResources;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${redis.health.ping-interval-ms:5000}")
+    private long pingIntervalMs;
+
+    // 연속 PING 실패가 이 횟수에 도달하면 사용 불가로 판단
+    @Value("${redis.health.failure-threshold:2}")
+    private int failureThreshold;
+
+    private volatile boolean available = true;
+    private volatile long lastPingMillis = -1;
+    private volatile long lastCheckedAt;
+    private volatile String lastError;
+    private int consecutiveFailures;
+
+    private ScheduledExecutorService pinger;
+    private Disposable eventSubscription;
+
+    @PostConstruct
+    protected void init() {
+        pinger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-health-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pinger.scheduleWithFixedDelay(this::ping, 0, pingIntervalMs, TimeUnit.MILLISECONDS);
+
+        ClientResources resources = clientResources.getIfAvailable();
+        if (resources != null) {
+            eventSubscription = resources.eventBus().get().subscribe(event -> {
+                if (event instanceof ConnectionActivatedEvent || event instanceof ConnectionDeactivatedEvent) {
+                    log.debug("Redis 연결 이벤트, 상태 재확인: {}", event);
+                    requestPing();
+                }
+            });
+        }
+
+        Gauge.builder("redis.health.available", this, monitor -> monitor.isAvailable() ? 1 : 0).register(meterRegistry);
+        Gauge.builder("redis.health.ping.millis", this, RedisHealthMonitor::getLastPingMillis).register(meterRegistry);
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        if (eventSubscription != null) {
+            eventSubscription.dispose();
+        }
+        pinger.shutdownNow();
+    }
+
+    /**
+     * 마지막으로 확인된 Redis 사용 가능 여부 (네트워크 호출 없음)
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLastPingMillis() {
+        return lastPingMillis;
+    }
+
+    public long getLastCheckedAt() {
+        return lastCheckedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    // 다음 주기를 기다리지 않고 PING 한 번 실행 (같은 스레드에서 순서대로 처리됨)
+    private void requestPing() {
+        try {
+            pinger.execute(this::ping);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    private void ping() {
+        long start = System.nanoTime();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.ping();
+            lastPingMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            synchronized (this) {
+                consecutiveFailures = 0;
+            }
+            markUp();
+        } catch (Exception e) {
+            boolean thresholdReached;
+            synchronized (this) {
+                thresholdReached = ++consecutiveFailures >= failureThreshold;
+            }
+            if (thresholdReached) {
+                markDown("PING 실패: " + e.getMessage());
+            } else {
+                log.warn("Redis PING 실패 ({}회 연속): {}", consecutiveFailures, e.getMessage());
+            }
+        } finally {
+            lastCheckedAt = System.currentTimeMillis();
+        }
+    }
+
+    private void markUp() {
+        if (!available) {
+            log.info("Redis 연결 복구");
+        }
+        available = true;
+        lastError = null;
+    }
+
+    private void markDown(String reason) {
+        if (available) {
+            log.error("Redis 사용 불가 상태로 전환: {}", reason);
+        }
+        available = false;
+        lastError = reason;
+    }
+}
@@ -0,0 +1,28 @@
+package com.promisenow.api.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * RedisHealthMonitor 가 추적한 상태를 Actuator health 로 노출 (/actuator/health 의 redisMonitor)
+ * 기본 redis health 와 달리 조회 시 Redis 에 요청을 보내지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisMonitorHealthIndicator implements HealthIndicator {
+
+    private final RedisHealthMonitor redisHealthMonitor;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = redisHealthMonitor.isAvailable() ? Health.up() : Health.down();
+        builder.withDetail("lastPingMillis", redisHealthMonitor.getLastPingMillis())
+                .withDetail("lastCheckedAt", redisHealthMonitor.getLastCheckedAt());
+        if (redisHealthMonitor.getLastError() != null) {
+            builder.withDetail("error", redisHealthMonitor.getLastError());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.promisenow.api.infrastructure.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * 브로커 채널로 바로 전송 (simple: 같은 JVM 구독자에게만, relay: 외부 STOMP 브로커가 전체 인스턴스로 전파)
+ */
+@RequiredArgsConstructor
+public class LocalTopicPublisher implements TopicPublisher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void publish(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+}
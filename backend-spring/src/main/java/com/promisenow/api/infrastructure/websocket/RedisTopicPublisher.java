@@ -0,0 +1,120 @@
+package com.promisenow.api.infrastructure.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis pub/sub 기반 멀티 인스턴스 전파
+ * 모든 전송을 Redis 채널에 발행하고, 각 인스턴스(자신 포함)가 구독해서 로컬 simple 브로커로 전달한다.
+ * 메시지 형식은 "destination\n{json}" 이며, JSON 은 발행 시 한 번만 직렬화한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisTopicPublisher implements TopicPublisher {
+
+    private static final char SEPARATOR = '\n';
+
+    private final String channel;
+    private final RedisConnectionFactory connectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private RedisMessageListenerContainer listenerContainer;
+    private Counter publishedCounter;
+    private Counter receivedCounter;
+    private Counter fallbackCounter;
+
+    @PostConstruct
+    protected void init() {
+        publishedCounter = meterRegistry.counter("websocket.broker.redis.published");
+        receivedCounter = meterRegistry.counter("websocket.broker.redis.received");
+        fallbackCounter = meterRegistry.counter("websocket.broker.redis.fallback");
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        // 기본 실행기는 메시지마다 새 스레드라 순서가 섞이므로, 구독 스레드에서 받은 순서대로 전달
+        listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+        listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(channel));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("Redis 브로커 브리지 시작: channel={}", channel);
+    }
+
+    @PreDestroy
+    protected void shutdown() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Override
+    public void publish(String destination, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("STOMP 메시지 직렬화 실패: destination=" + destination, e);
+        }
+
+        try {
+            stringRedisTemplate.convertAndSend(channel, destination + SEPARATOR + json);
+            publishedCounter.increment();
+        } catch (RuntimeException e) {
+            // Redis 장애 시 최소한 같은 인스턴스의 구독자에게는 전달
+            fallbackCounter.increment();
+            log.warn("Redis 발행 실패, 로컬 전송: destination={}, error={}", destination, e.getMessage());
+            deliver(destination, json.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        byte[] body = message.getBody();
+        int separator = indexOf(body, (byte) SEPARATOR);
+        if (separator < 0) {
+            log.warn("잘못된 브로커 메시지 형식: channel={}", channel);
+            return;
+        }
+
+        receivedCounter.increment();
+        String destination = new String(body, 0, separator, StandardCharsets.UTF_8);
+        byte[] json = new byte[body.length - separator - 1];
+        System.arraycopy(body, separator + 1, json, 0, json.length);
+        deliver(destination, json);
+    }
+
+    // 이미 직렬화된 JSON 을 변환 없이 로컬 브로커로 전송
+    private void deliver(String destination, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+    }
+
+    private static int indexOf(byte[] bytes, byte target) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,47 @@
+package com.promisenow.api.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STOMP 채널(clientInbound/clientOutbound) 처리 지표
+ * 실행기 스레드에서 핸들러가 실행되는 동안의 처리 시간과 동시 처리 수를 기록한다. (스레드 풀/가상 스레드 공통)
+ */
+public class StompChannelMetrics implements ExecutorChannelInterceptor {
+
+    private final Timer handleTimer;
+    private final AtomicInteger active = new AtomicInteger();
+
+    // beforeHandle 과 afterMessageHandled 는 같은 실행기 스레드에서 호출된다
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+    public StompChannelMetrics(String channelName, MeterRegistry meterRegistry) {
+        handleTimer = meterRegistry.timer("websocket.channel." + channelName + ".handle");
+        Gauge.builder("websocket.channel." + channelName + ".active", active, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        active.incrementAndGet();
+        startedAt.set(System.nanoTime());
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Long started = startedAt.get();
+        startedAt.remove();
+        active.decrementAndGet();
+        if (started != null) {
+            handleTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.promisenow.api.infrastructure.websocket;
+
+/**
+ * /topic 구독자에게 메시지를 전송하는 창구
+ * 브로커 모드(websocket.broker.mode)에 따라 같은 JVM 의 구독자에게만 보내거나, 모든 서버 인스턴스로 전파한다.
+ */
+public interface TopicPublisher {
+
+    /**
+     * destination(/topic/...) 구독자 전체에게 payload 를 JSON 으로 전송
+     */
+    void publish(String destination, Object payload);
+}
@@ -0,0 +1,17 @@
+-- 방별 일정 히트맵 증분 갱신 스크립트
+-- 이미 시드된 히트맵에만 변경분을 더한다. 시드되지 않았으면 아무것도 하지 않는다.
+-- (다음 조회에서 DB 로 시드하며, 쓰기 표시 키가 남아 있는 동안에는 시드하지 않는다.)
+--
+-- KEYS[1] 히트맵 HASH
+-- ARGV[1] TTL(ms), ARGV[2..] (필드, 증감값) 쌍  필드: '{date}:{slot}' 슬롯 인원 수, '{date}:n' 날짜의 일정 행 존재 여부
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+
+for i = 2, #ARGV, 2 do
+    redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+
+return 1
@@ -0,0 +1,18 @@
+-- 방별 일정 히트맵 시드 스크립트
+-- DB 에서 집계한 값으로 히트맵을 만든다. 이미 있거나 최근 일정 쓰기가 있었으면 쓰지 않는다.
+-- (쓰기 도중 읽은 DB 값으로 시드하면 증분이 빠지거나 두 번 더해질 수 있음)
+--
+-- KEYS[1] 히트맵 HASH, KEYS[2] 쓰기 표시 키
+-- ARGV[1] TTL(ms), ARGV[2..] (필드, 값) 쌍
+
+if redis.call('EXISTS', KEYS[1]) == 1 or redis.call('EXISTS', KEYS[2]) == 1 then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], '_seeded', '1')
+for i = 2, #ARGV, 2 do
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+
+return 1
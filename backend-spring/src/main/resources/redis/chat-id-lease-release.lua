@@ -0,0 +1,10 @@
+-- 채팅 ID 노드 번호 임대 반납 (ChatIdGenerator, 종료 시)
+-- 내 임대일 때만 지운다. (만료 후 다른 인스턴스가 가져간 임대를 지우지 않도록)
+--
+-- KEYS[1] 노드 임대 키 (chat:id:node:{nodeId})
+-- ARGV[1] 인스턴스 토큰
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,14 @@
+-- 채팅 ID 노드 번호 임대 연장 (ChatIdGenerator)
+-- 내 임대면 TTL 을 연장하고, 만료되어 비어 있으면 다시 차지한다. 다른 인스턴스가 가져갔으면 0.
+--
+-- KEYS[1] 노드 임대 키 (chat:id:node:{nodeId})
+-- ARGV[1] 인스턴스 토큰, ARGV[2] TTL (ms)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+    return 1
+end
+return 0
@@ -0,0 +1,13 @@
+-- 최근 메시지 조회 스크립트
+-- 시드되지 않은 방이면 nil 을 반환해 DB 에서 적재하도록 한다.
+--
+-- KEYS[1] 메시지 ZSET, KEYS[2] 시드 완료 표시 키
+-- ARGV[1] 조회할 개수
+--
+-- 반환: 최신순 JSON 배열 (시드되지 않았으면 nil)
+
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return false
+end
+
+return redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
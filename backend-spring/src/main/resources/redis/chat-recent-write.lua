@@ -0,0 +1,28 @@
+-- 최근 메시지 링 버퍼 기록 스크립트
+-- 메시지 ID 를 score 로 하는 ZSET 에 JSON 을 추가하고, 최신 maxSize 개만 남긴다.
+-- 이미 있는 메시지 ID 는 건너뛰므로, DB 시드와 실시간 추가가 겹쳐도 중복되지 않는다.
+--
+-- KEYS[1] 메시지 ZSET, KEYS[2] 시드 완료 표시 키
+-- ARGV[1] 최대 보관 개수, ARGV[2] TTL(ms), ARGV[3] 시드 여부(1/0), ARGV[4..] (messageId, json) 쌍
+
+local maxSize = tonumber(ARGV[1])
+local ttl = tonumber(ARGV[2])
+
+for i = 4, #ARGV, 2 do
+    local id = ARGV[i]
+    if redis.call('ZCOUNT', KEYS[1], id, id) == 0 then
+        redis.call('ZADD', KEYS[1], id, ARGV[i + 1])
+    end
+end
+
+redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(maxSize + 1))
+redis.call('PEXPIRE', KEYS[1], ttl)
+
+-- 시드 완료 표시는 메시지 키와 같은 만료 시각을 유지
+if ARGV[3] == '1' then
+    redis.call('SET', KEYS[2], '1', 'PX', ttl)
+elseif redis.call('EXISTS', KEYS[2]) == 1 then
+    redis.call('PEXPIRE', KEYS[2], ttl)
+end
+
+return 1
@@ -0,0 +1,30 @@
+-- 리더보드 일괄 조회 스크립트 (단일 라운드트립)
+-- 리더보드 ZSET 순위 순서대로 각 사용자의 위치 레코드와 온라인 여부를 함께 반환한다.
+--
+-- KEYS[1] leaderboardKey
+-- ARGV[1] 사용자 키 prefix (room:{roomId}:user:), ARGV[2] 조회할 최대 인원 수
+--
+-- 사용자 키는 리더보드 멤버를 읽은 뒤에야 알 수 있어 KEYS 로 미리 넘길 수 없다.
+-- 대신 방의 모든 키가 해시 태그 {roomId} 를 공유하므로(LeaderboardKeys) Redis Cluster 에서도
+-- KEYS[1] 과 같은 슬롯에 있다. prefix 의 해시 태그를 바꾸면 클러스터에서 CROSSSLOT 오류가 난다.
+--
+-- 반환: 사용자마다 [roomUserId, online(1/0), 위치 레코드] 를 이어붙인 평탄한 배열
+--       위치 레코드가 없으면 빈 문자열 (레코드 형식은 PositionCodec 참고)
+
+local topN = tonumber(ARGV[2])
+if topN <= 0 then return {} end
+
+local members = redis.call('ZRANGE', KEYS[1], 0, topN - 1)
+local result = {}
+
+for _, roomUserId in ipairs(members) do
+    local userKey = ARGV[1] .. roomUserId
+    local online = redis.call('EXISTS', userKey .. ':online')
+    local record = redis.call('GET', userKey .. ':pos')
+
+    result[#result + 1] = roomUserId
+    result[#result + 1] = online == 1 and '1' or '0'
+    result[#result + 1] = record or ''
+end
+
+return result
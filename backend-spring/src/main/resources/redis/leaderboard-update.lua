@@ -0,0 +1,110 @@
+-- 리더보드 위치 갱신 스크립트 (단일 라운드트립)
+-- 이전 위치 조회 → 출발 위치/속도/진행률/도착 여부 계산 → 위치 레코드, 온라인 TTL, 도착 순서, 리더보드 저장
+--
+-- KEYS[1] positionKey, KEYS[2] onlineKey, KEYS[3] arrivalOrderKey, KEYS[4] leaderboardKey
+-- ARGV[1] 갱신 요청 (little-endian '<i8ddBddi8i4dB')
+--         roomUserId, lat, lng, online(1/0), goalLat, goalLng, now(ms), 온라인 TTL(초), 도착 판정 반경(km),
+--         거리 계산 모드 (0: 하버사인, 1: 등장방형 근사, GeoDistance.Mode 와 동일)
+--
+-- 위치 레코드는 PositionCodec 과 같은 고정 길이 little-endian 레이아웃을 사용한다.
+-- lat, lng, startLat, startLng, velocity, progress (double) + time (int64) + flags (byte)
+-- 반환: 계산된 속도 (little-endian double)
+
+local RECORD_FORMAT = '<ddddddi8B'
+local REQUEST_FORMAT = '<i8ddBddi8i4dB'
+local FLAG_ARRIVED, FLAG_HAS_POSITION, FLAG_HAS_START = 1, 2, 4
+local EARTH_RADIUS_KM = 6371
+
+local function hasFlag(flags, flag)
+    return bit.band(flags, flag) ~= 0
+end
+
+-- 하버사인 공식으로 두 좌표 간 거리(km) 계산
+local function haversine(lat1, lng1, lat2, lng2)
+    local dLat = math.rad(lat2 - lat1)
+    local dLng = math.rad(lng2 - lng1)
+    local a = math.sin(dLat / 2) ^ 2
+        + math.cos(math.rad(lat1)) * math.cos(math.rad(lat2)) * math.sin(dLng / 2) ^ 2
+    return EARTH_RADIUS_KM * 2 * math.atan2(math.sqrt(a), math.sqrt(1 - a))
+end
+
+-- 등장방형 근사로 두 좌표 간 거리(km) 계산 (도시 규모에서 오차 1m 미만)
+local function equirectangular(lat1, lng1, lat2, lng2)
+    local x = math.rad(lng2 - lng1) * math.cos(math.rad((lat1 + lat2) / 2))
+    local y = math.rad(lat2 - lat1)
+    return EARTH_RADIUS_KM * math.sqrt(x * x + y * y)
+end
+
+local positionKey, onlineKey, arrivalOrderKey, leaderboardKey = KEYS[1], KEYS[2], KEYS[3], KEYS[4]
+local roomUserId, lat, lng, onlineFlag, goalLat, goalLng, now, onlineTtl, arrivalRadius, distanceMode =
+    struct.unpack(REQUEST_FORMAT, ARGV[1])
+local distance = distanceMode == 1 and equirectangular or haversine
+local member = string.format('%.0f', roomUserId)
+local online = onlineFlag == 1
+
+local function setOnline()
+    if online then
+        redis.call('SET', onlineKey, '1', 'EX', onlineTtl)
+    else
+        redis.call('DEL', onlineKey)
+    end
+end
+
+-- 이전 데이터 조회
+local prevLat, prevLng, prevTime, startLat, startLng
+local raw = redis.call('GET', positionKey)
+if raw then
+    local pLat, pLng, sLat, sLng, _, _, pTime, flags = struct.unpack(RECORD_FORMAT, raw)
+
+    -- 이미 도착한 유저는 위치/속도 등 갱신 중단, 온라인 상태 TTL만 갱신
+    if hasFlag(flags, FLAG_ARRIVED) then
+        setOnline()
+        return struct.pack('<d', 0)
+    end
+    if hasFlag(flags, FLAG_HAS_POSITION) then
+        prevLat, prevLng, prevTime = pLat, pLng, pTime
+    end
+    if hasFlag(flags, FLAG_HAS_START) then
+        startLat, startLng = sLat, sLng
+    end
+end
+
+-- 출발 위치 설정 (최초 한 번만)
+if not startLat then
+    startLat, startLng = lat, lng
+end
+
+local totalDistance = distance(startLat, startLng, goalLat, goalLng)
+local distanceLeft = distance(lat, lng, goalLat, goalLng)
+
+-- 속도 계산 (이전 위치가 있는 경우, km/h)
+local velocity = 0
+if prevLat then
+    local timeDiffMs = now - prevTime
+    if timeDiffMs > 0 then
+        velocity = distance(prevLat, prevLng, lat, lng) / (timeDiffMs / 3600000)
+    end
+end
+
+local progress = 0
+if totalDistance > 0 then
+    progress = ((totalDistance - distanceLeft) / totalDistance) * 100
+end
+
+local arrived = distanceLeft <= arrivalRadius
+
+local flags = FLAG_HAS_POSITION + FLAG_HAS_START
+if arrived then flags = flags + FLAG_ARRIVED end
+
+redis.call('SET', positionKey, struct.pack(RECORD_FORMAT, lat, lng, startLat, startLng, velocity, progress, now, flags))
+
+setOnline()
+
+-- 새로 도착한 경우 도착 순서 기록
+if arrived then
+    redis.call('ZADD', arrivalOrderKey, string.format('%.0f', now), member)
+end
+
+redis.call('ZADD', leaderboardKey, string.format('%.17g', progress), member)
+
+return struct.pack('<d', velocity)
@@ -0,0 +1,57 @@
+package com.promisenow.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.promisenow.api.infrastructure.websocket.LocalTopicPublisher;
+import com.promisenow.api.infrastructure.websocket.RedisTopicPublisher;
+import com.promisenow.api.infrastructure.websocket.TopicPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class WebSocketConfigTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @ParameterizedTest
+    @CsvSource({"simple, false", "relay, false", "redis, true", "REDIS, true"})
+    @DisplayName("websocket.broker.mode 에 따라 /topic 전송 창구를 고른다 (redis 만 Redis 를 거침)")
+    void selectsTopicPublisherByBrokerMode(String brokerMode, boolean viaRedis) {
+        TopicPublisher publisher = topicPublisher(brokerMode);
+
+        assertInstanceOf(viaRedis ? RedisTopicPublisher.class : LocalTopicPublisher.class, publisher);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"rabbit", ""})
+    @DisplayName("알 수 없는 websocket.broker.mode 면 기동에 실패한다")
+    void rejectsUnknownBrokerMode(String brokerMode) {
+        assertThrows(IllegalStateException.class, () -> topicPublisher(brokerMode));
+    }
+
+    private TopicPublisher topicPublisher(String brokerMode) {
+        WebSocketConfig config = new WebSocketConfig(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(config, "brokerMode", brokerMode);
+        ReflectionTestUtils.setField(config, "redisChannel", "stomp:topic");
+        return config.topicPublisher(messagingTemplate, connectionFactory, stringRedisTemplate, new ObjectMapper());
+    }
+}
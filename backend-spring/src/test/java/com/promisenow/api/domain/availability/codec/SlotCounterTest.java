@@ -0,0 +1,72 @@
+package com.promisenow.api.domain.availability.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class SlotCounterTest {
+
+    @Test
+    @DisplayName("임의의 인원/일정에서 비트 슬라이스 카운트는 문자 단위 카운트와 같다")
+    void matchesCharacterBasedCount() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int n = 0; n < 2_000; n++) {
+            int members = random.nextInt(0, 40);
+            List<String> timeDataList = new ArrayList<>();
+            SlotCounter counter = new SlotCounter();
+            for (int m = 0; m < members; m++) {
+                String timeData = TimeSlotCodecTest.randomTimeData(random);
+                timeDataList.add(timeData);
+                counter.add(TimeSlotCodec.encode(timeData));
+            }
+
+            assertArrayEquals(countByCharacters(timeDataList), counter.toCounts(), "members=" + members);
+        }
+    }
+
+    @Test
+    @DisplayName("캐리가 여러 평면으로 올라가도 정확하다 (전원 전체 선택)")
+    void carriesAcrossPlanes() {
+        for (int members : new int[]{1, 2, 3, 7, 8, 255, 256, 1000}) {
+            SlotCounter counter = new SlotCounter();
+            for (int m = 0; m < members; m++) {
+                counter.add(TimeSlotCodec.ALL_SLOTS);
+            }
+
+            int[] expected = new int[TimeSlotCodec.SLOT_COUNT];
+            Arrays.fill(expected, members);
+            assertArrayEquals(expected, counter.toCounts(), "members=" + members);
+        }
+    }
+
+    @Test
+    @DisplayName("30번째 이후 비트는 무시하고, 아무도 없으면 0")
+    void ignoresBitsOutsideSlots() {
+        SlotCounter counter = new SlotCounter();
+        assertArrayEquals(new int[TimeSlotCodec.SLOT_COUNT], counter.toCounts());
+
+        counter.add(~0L);
+        int[] expected = new int[TimeSlotCodec.SLOT_COUNT];
+        Arrays.fill(expected, 1);
+        assertArrayEquals(expected, counter.toCounts());
+    }
+
+    // 기존 집계 방식 (문자열을 한 글자씩 확인)
+    private static int[] countByCharacters(List<String> timeDataList) {
+        int[] counts = new int[TimeSlotCodec.SLOT_COUNT];
+        for (String timeData : timeDataList) {
+            for (int i = 0; i < TimeSlotCodec.SLOT_COUNT && i < timeData.length(); i++) {
+                if (timeData.charAt(i) == '1') {
+                    counts[i]++;
+                }
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,80 @@
+package com.promisenow.api.domain.availability.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeSlotCodecTest {
+
+    @Test
+    @DisplayName("임의의 30자리 문자열은 encode → decode 후 그대로이고, 슬롯 i 는 i 번째 문자와 같다")
+    void roundTripMatchesCharacters() {
+        SplittableRandom random = new SplittableRandom(21);
+        for (int n = 0; n < 10_000; n++) {
+            String timeData = randomTimeData(random);
+
+            long bits = TimeSlotCodec.encode(timeData);
+
+            assertEquals(timeData, TimeSlotCodec.decode(bits));
+            assertEquals(0, bits & ~TimeSlotCodec.ALL_SLOTS);
+            for (int slot = 0; slot < TimeSlotCodec.SLOT_COUNT; slot++) {
+                assertEquals(timeData.charAt(slot) == '1', TimeSlotCodec.isSet(bits, slot),
+                        "timeData=" + timeData + " slot=" + slot);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("슬롯 0 은 최하위 비트 (DB 백필의 REVERSE + CONV 와 같은 순서)")
+    void slotZeroIsLeastSignificantBit() {
+        assertEquals(0b11L, TimeSlotCodec.encode("11" + "0".repeat(28)));
+        assertEquals(1L << 29, TimeSlotCodec.encode("0".repeat(29) + "1"));
+        assertEquals(TimeSlotCodec.ALL_SLOTS, TimeSlotCodec.encode("1".repeat(30)));
+        assertEquals(Long.parseLong(new StringBuilder("1010" + "0".repeat(25) + "1").reverse().toString(), 2),
+                TimeSlotCodec.encode("1010" + "0".repeat(25) + "1"));
+    }
+
+    @Test
+    @DisplayName("null/짧은 문자열은 빈 슬롯으로, 30자를 넘는 부분은 무시한다")
+    void handlesNullShortAndLongInput() {
+        assertEquals(0L, TimeSlotCodec.encode(null));
+        assertEquals(0b101L, TimeSlotCodec.encode("101"));
+        assertEquals(TimeSlotCodec.ALL_SLOTS, TimeSlotCodec.encode("1".repeat(40)));
+        assertEquals("0".repeat(30), TimeSlotCodec.decode(0L));
+    }
+
+    @Test
+    @DisplayName("slotMask 는 0 ~ 29 만 허용한다")
+    void slotMaskRange() {
+        assertEquals(1L, TimeSlotCodec.slotMask(0));
+        assertEquals(1L << 29, TimeSlotCodec.slotMask(29));
+        assertThrows(IllegalArgumentException.class, () -> TimeSlotCodec.slotMask(-1));
+        assertThrows(IllegalArgumentException.class, () -> TimeSlotCodec.slotMask(30));
+        assertTrue(TimeSlotCodec.isSet(TimeSlotCodec.ALL_SLOTS, 29));
+        assertFalse(TimeSlotCodec.isSet(0L, 0));
+    }
+
+    @Test
+    @DisplayName("인원 수 문자열은 9 이하에서 기존 숫자 문자열과 같고, 큰 값은 base-36 으로 표시한다")
+    void encodeCounts() {
+        assertEquals("0123456789", TimeSlotCodec.encodeCounts(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}));
+        assertEquals("az", TimeSlotCodec.encodeCounts(new int[]{10, 35}));
+        assertEquals("z", TimeSlotCodec.encodeCounts(new int[]{1000}));
+    }
+
+    static String randomTimeData(SplittableRandom random) {
+        // 선택 비율을 다양하게 (전부 비어 있음 ~ 전부 선택)
+        double density = random.nextDouble();
+        char[] chars = new char[TimeSlotCodec.SLOT_COUNT];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = random.nextDouble() < density ? '1' : '0';
+        }
+        return new String(chars);
+    }
+}
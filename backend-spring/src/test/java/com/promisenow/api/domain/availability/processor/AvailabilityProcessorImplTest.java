@@ -0,0 +1,88 @@
+package com.promisenow.api.domain.availability.processor;
+
+import com.promisenow.api.domain.availability.codec.TimeSlotCodec;
+import com.promisenow.api.domain.availability.entity.Availability;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AvailabilityProcessorImplTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+
+    private final List<AvailabilityProcessorImpl> processors = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        processors.forEach(AvailabilityProcessorImpl::shutdown);
+    }
+
+    @Test
+    @DisplayName("병렬 집계 결과는 순차 집계 결과와 같다")
+    void parallelMatchesSequential() {
+        AvailabilityProcessorImpl sequential = processor(0, 8);
+        AvailabilityProcessorImpl parallel = processor(1, 2);
+
+        SplittableRandom random = new SplittableRandom(25);
+        for (int n = 0; n < 50; n++) {
+            List<Availability> availabilities = randomAvailabilities(random, random.nextInt(1, 120), 9);
+
+            Map<LocalDate, int[]> expected = sequential.countByDate(availabilities);
+            Map<LocalDate, int[]> actual = parallel.countByDate(availabilities);
+
+            assertEquals(List.copyOf(expected.keySet()), List.copyOf(actual.keySet()));
+            expected.forEach((date, counts) -> assertArrayEquals(counts, actual.get(date), "date=" + date));
+        }
+
+        // 병렬 경로를 실제로 탔는지 확인
+        assertNotNull(ReflectionTestUtils.getField(parallel, "aggregationPool"));
+    }
+
+    @Test
+    @DisplayName("순차 집계만 하면 집계 전용 풀을 만들지 않는다")
+    void createsPoolLazily() {
+        AvailabilityProcessorImpl processor = processor(0, 8);
+
+        processor.countByDate(randomAvailabilities(new SplittableRandom(1), 60, 9));
+
+        assertNull(ReflectionTestUtils.getField(processor, "aggregationPool"));
+    }
+
+    private AvailabilityProcessorImpl processor(int parallelThreshold, int datesPerTask) {
+        AvailabilityProcessorImpl processor = new AvailabilityProcessorImpl();
+        ReflectionTestUtils.setField(processor, "parallelThreshold", parallelThreshold);
+        ReflectionTestUtils.setField(processor, "datesPerTask", datesPerTask);
+        ReflectionTestUtils.setField(processor, "parallelism", 4);
+        processors.add(processor);
+        return processor;
+    }
+
+    // 날짜마다 최대 members 명의 임의 일정 (빈 일정 포함)
+    private static List<Availability> randomAvailabilities(SplittableRandom random, int dates, int members) {
+        List<Availability> availabilities = new ArrayList<>();
+        for (int d = 0; d < dates; d++) {
+            int memberCount = random.nextInt(1, members + 1);
+            for (int m = 0; m < memberCount; m++) {
+                long bits = random.nextLong() & TimeSlotCodec.ALL_SLOTS;
+                availabilities.add(Availability.builder()
+                        .date(BASE_DATE.plusDays(d))
+                        .timeData(TimeSlotCodec.decode(bits))
+                        .timeBits(bits)
+                        .build());
+            }
+        }
+        return availabilities;
+    }
+}
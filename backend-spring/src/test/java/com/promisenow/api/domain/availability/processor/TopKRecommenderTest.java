@@ -0,0 +1,151 @@
+package com.promisenow.api.domain.availability.processor;
+
+import com.promisenow.api.domain.availability.codec.TimeSlotCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopKRecommenderTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 15);
+
+    @Test
+    @DisplayName("임의의 인원 배열에서 단조 덱 + 힙 결과는 O(슬롯²) 전수 조사 결과와 같다")
+    void matchesNaiveScan() {
+        SplittableRandom random = new SplittableRandom(24);
+        for (int n = 0; n < 3_000; n++) {
+            // 인원 범위를 좁게 잡아 같은 인원(동점) 구간이 자주 나오도록 함
+            Map<LocalDate, int[]> countsByDate = randomCounts(random, random.nextInt(1, 8), random.nextInt(1, 6));
+            int minSlots = random.nextInt(1, TimeSlotCodec.SLOT_COUNT + 1);
+            int minAttendees = random.nextInt(1, 6);
+            int k = random.nextInt(1, 60);
+
+            assertEquals(naiveTopK(countsByDate, minSlots, minAttendees, k),
+                    TopKRecommender.topK(countsByDate, minSlots, minAttendees, k),
+                    "minSlots=" + minSlots + " minAttendees=" + minAttendees + " k=" + k);
+        }
+    }
+
+    @Test
+    @DisplayName("minSlots 보다 짧은 구간과 minAttendees 미만 구간은 제외한다")
+    void appliesMinSlotsAndMinAttendees() {
+        int[] counts = new int[TimeSlotCodec.SLOT_COUNT];
+        // 슬롯 2~3: 3명 (길이 2), 슬롯 10~15: 2명 (길이 6), 슬롯 20~25: 1명 (길이 6)
+        fill(counts, 2, 4, 3);
+        fill(counts, 10, 16, 2);
+        fill(counts, 20, 26, 1);
+        Map<LocalDate, int[]> countsByDate = Map.of(BASE_DATE, counts);
+
+        assertEquals(List.of(new TopKRecommender.Window(BASE_DATE, 10, 16, 2)),
+                TopKRecommender.topK(countsByDate, 4, 2, 10));
+        assertEquals(List.of(
+                        new TopKRecommender.Window(BASE_DATE, 2, 4, 3),
+                        new TopKRecommender.Window(BASE_DATE, 10, 16, 2)),
+                TopKRecommender.topK(countsByDate, 2, 2, 10));
+        assertEquals(naiveTopK(countsByDate, 3, 1, 10), TopKRecommender.topK(countsByDate, 3, 1, 10));
+        assertTrue(TopKRecommender.topK(countsByDate, 7, 1, 10).isEmpty());
+        assertTrue(TopKRecommender.topK(countsByDate, 1, 4, 10).isEmpty());
+        assertTrue(TopKRecommender.topK(countsByDate, TimeSlotCodec.SLOT_COUNT + 1, 1, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("인원이 같으면 날짜 → 시작 시간 순, K 개에서 자른다")
+    void breaksTiesByDateThenStart() {
+        int[] first = new int[TimeSlotCodec.SLOT_COUNT];
+        fill(first, 0, 2, 2);
+        fill(first, 5, 7, 2);
+        int[] second = new int[TimeSlotCodec.SLOT_COUNT];
+        fill(second, 1, 3, 2);
+        Map<LocalDate, int[]> countsByDate = new TreeMap<>(Map.of(
+                BASE_DATE.plusDays(1), second,
+                BASE_DATE, first));
+
+        assertEquals(List.of(
+                        new TopKRecommender.Window(BASE_DATE, 0, 2, 2),
+                        new TopKRecommender.Window(BASE_DATE, 5, 7, 2)),
+                TopKRecommender.topK(countsByDate, 2, 1, 2));
+        assertEquals(List.of(
+                        new TopKRecommender.Window(BASE_DATE, 0, 2, 2),
+                        new TopKRecommender.Window(BASE_DATE, 5, 7, 2),
+                        new TopKRecommender.Window(BASE_DATE.plusDays(1), 1, 3, 2)),
+                TopKRecommender.topK(countsByDate, 2, 1, 3));
+    }
+
+    @Test
+    @DisplayName("K 가 후보 수보다 크면 후보 전체를 정렬해서 반환한다")
+    void returnsAllCandidatesWhenKIsLarger() {
+        SplittableRandom random = new SplittableRandom(50);
+        Map<LocalDate, int[]> countsByDate = randomCounts(random, 3, 4);
+
+        List<TopKRecommender.Window> all = naiveTopK(countsByDate, 2, 1, Integer.MAX_VALUE);
+        List<TopKRecommender.Window> result = TopKRecommender.topK(countsByDate, 2, 1, all.size() + 50);
+
+        assertTrue(all.size() > 10, "후보 수=" + all.size());
+        assertEquals(all, result);
+        assertTrue(TopKRecommender.topK(Map.of(), 2, 1, 5).isEmpty());
+    }
+
+    private static Map<LocalDate, int[]> randomCounts(SplittableRandom random, int days, int maxCount) {
+        Map<LocalDate, int[]> countsByDate = new TreeMap<>();
+        for (int d = 0; d < days; d++) {
+            int[] counts = new int[TimeSlotCodec.SLOT_COUNT];
+            for (int slot = 0; slot < counts.length; slot++) {
+                counts[slot] = random.nextInt(0, maxCount + 1);
+            }
+            countsByDate.put(BASE_DATE.plusDays(d), counts);
+        }
+        return countsByDate;
+    }
+
+    private static void fill(int[] counts, int from, int to, int value) {
+        for (int slot = from; slot < to; slot++) {
+            counts[slot] = value;
+        }
+    }
+
+    /**
+     * 전수 조사: 시작 슬롯마다 창 최소값을 직접 구하고, 같은 인원이 이어지는 창을 합친 뒤 전체 정렬
+     */
+    private static List<TopKRecommender.Window> naiveTopK(Map<LocalDate, int[]> countsByDate,
+                                                           int minSlots, int minAttendees, int k) {
+        List<TopKRecommender.Window> windows = new ArrayList<>();
+        countsByDate.forEach((date, counts) -> {
+            int runStart = -1;
+            int runCount = -1;
+            int lastStart = -1;
+            for (int start = 0; start + minSlots <= counts.length; start++) {
+                int min = Integer.MAX_VALUE;
+                for (int slot = start; slot < start + minSlots; slot++) {
+                    min = Math.min(min, counts[slot]);
+                }
+                int count = min >= minAttendees && min > 0 ? min : -1;
+                if (count != runCount) {
+                    if (runCount > 0) {
+                        windows.add(new TopKRecommender.Window(date, runStart, lastStart + minSlots, runCount));
+                    }
+                    runStart = start;
+                    runCount = count;
+                }
+                lastStart = start;
+            }
+            if (runCount > 0) {
+                windows.add(new TopKRecommender.Window(date, runStart, lastStart + minSlots, runCount));
+            }
+        });
+
+        windows.sort(Comparator.comparingInt(TopKRecommender.Window::count).reversed()
+                .thenComparing(TopKRecommender.Window::date)
+                .thenComparingInt(TopKRecommender.Window::startSlot));
+        return windows.subList(0, Math.min(k, windows.size()));
+    }
+}
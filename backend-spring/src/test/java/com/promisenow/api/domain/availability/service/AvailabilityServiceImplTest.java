@@ -0,0 +1,299 @@
+package com.promisenow.api.domain.availability.service;
+
+import com.promisenow.api.config.QuerydslConfig;
+import com.promisenow.api.domain.availability.codec.TimeSlotCodec;
+import com.promisenow.api.domain.availability.dto.AvailabilityRequestDto;
+import com.promisenow.api.domain.availability.dto.AvailabilityResponseDto;
+import com.promisenow.api.domain.availability.processor.AvailabilityProcessorImpl;
+import com.promisenow.api.domain.availability.repository.AvailabilityChange;
+import com.promisenow.api.domain.availability.repository.AvailabilityHeatmapRepository;
+import com.promisenow.api.domain.availability.repository.AvailabilityRepository;
+import com.promisenow.api.domain.room.entity.Room;
+import com.promisenow.api.domain.room.entity.RoomUser;
+import com.promisenow.api.domain.room.repository.RoomUserRepository;
+import com.promisenow.api.domain.user.entity.User;
+import com.promisenow.api.infrastructure.redis.RedisHealthMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 날짜를 다시 저장했을 때 히트맵(/total) 이 DB 집계와 같은지 확인
+ * 요청 하나를 트랜잭션 하나로 실행해서, 조회한 기존 엔티티가 save 의 merge 대상이 되는 상황을 재현한다.
+ */
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        // schema.sql 은 MySQL 용 테스트 데이터라 사용하지 않음
+        "spring.sql.init.mode=never"
+})
+class AvailabilityServiceImplTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 15);
+    private static final String FIRST = "111111000000000000000000000000";
+    private static final String SECOND = "000111111000000000000000000000";
+    private static final String THIRD = "000000111111000000000000000000";
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private RoomUserRepository roomUserRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private AvailabilityProcessorImpl availabilityProcessor;
+    private InMemoryHeatmapRepository heatmapRepository;
+    private AvailabilityServiceImpl availabilityService;
+    private Long roomId;
+    private Long roomUserId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            User user = entityManager.persist(User.builder()
+                    .userId(1L)
+                    .joinDate(LocalDate.of(2025, 1, 1))
+                    .build());
+            Room room = entityManager.persist(Room.builder()
+                    .roomTitle("프로젝트 회의")
+                    .roomState(Room.RoomState.ACTIVE)
+                    .inviteCode("12345")
+                    .build());
+            RoomUser roomUser = entityManager.persist(RoomUser.builder()
+                    .room(room)
+                    .user(user)
+                    .nickname("푸른호랑이32")
+                    .isAgreed(true)
+                    .sortOrder(1)
+                    .build());
+            roomId = room.getRoomId();
+            roomUserId = roomUser.getRoomUserId();
+        });
+
+        availabilityProcessor = new AvailabilityProcessorImpl();
+        ReflectionTestUtils.setField(availabilityProcessor, "parallelThreshold", Integer.MAX_VALUE);
+        ReflectionTestUtils.setField(availabilityProcessor, "datesPerTask", 8);
+
+        RedisHealthMonitor redisHealthMonitor = mock(RedisHealthMonitor.class);
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        heatmapRepository = new InMemoryHeatmapRepository();
+        availabilityService = new AvailabilityServiceImpl(availabilityRepository, roomUserRepository,
+                availabilityProcessor, heatmapRepository, redisHealthMonitor);
+
+        // 빈 방 상태로 히트맵 시드
+        availabilityService.getTotalCounts(roomId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            entityManager.getEntityManager().createQuery("delete from Availability").executeUpdate();
+            entityManager.getEntityManager().createQuery("delete from RoomUser").executeUpdate();
+            entityManager.getEntityManager().createQuery("delete from Room").executeUpdate();
+            entityManager.getEntityManager().createQuery("delete from User").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("saveAvailability 로 같은 날짜를 두 번 저장하면 /total 은 두 번째 일정만 센다")
+    void saveSameDateTwice() {
+        transaction.executeWithoutResult(status -> availabilityService.saveAvailability(roomUserId, DATE, FIRST));
+        transaction.executeWithoutResult(status -> availabilityService.saveAvailability(roomUserId, DATE, SECOND));
+
+        assertTotalMatches(SECOND);
+    }
+
+    @Test
+    @DisplayName("batchUpdateAvailability 로 같은 날짜를 두 번 저장하면 /total 은 두 번째 일정만 센다")
+    void batchUpdateSameDateTwice() {
+        transaction.executeWithoutResult(status -> availabilityService.batchUpdateAvailability(batch(FIRST)));
+        transaction.executeWithoutResult(status -> availabilityService.batchUpdateAvailability(batch(SECOND)));
+
+        assertTotalMatches(SECOND);
+    }
+
+    @Test
+    @DisplayName("같은 참여자가 같은 날짜를 동시에 저장하면 뒤의 저장은 앞 트랜잭션이 끝날 때까지 기다려 /total 이 어긋나지 않는다")
+    void concurrentSavesForSameDate() throws Exception {
+        transaction.executeWithoutResult(status -> availabilityService.saveAvailability(roomUserId, DATE, FIRST));
+
+        // 첫 번째 저장을 참여자 행 잠금을 쥔 채로 멈춰 둠 (markWriting 은 잠금 조회 직후에 호출됨)
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicInteger writers = new AtomicInteger();
+        heatmapRepository.onMarkWriting = () -> {
+            if (writers.incrementAndGet() == 1) {
+                firstLocked.countDown();
+                awaitQuietly(releaseFirst);
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> transaction.executeWithoutResult(
+                    status -> availabilityService.saveAvailability(roomUserId, DATE, SECOND)));
+            assertTrue(firstLocked.await(5, TimeUnit.SECONDS));
+            Future<?> second = executor.submit(() -> transaction.executeWithoutResult(
+                    status -> availabilityService.saveAvailability(roomUserId, DATE, THIRD)));
+
+            Thread.sleep(300);
+            assertEquals(1, writers.get(), "두 번째 저장이 잠금을 기다리지 않고 기존 비트셋을 읽음");
+
+            releaseFirst.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+        } finally {
+            releaseFirst.countDown();
+            executor.shutdownNow();
+        }
+
+        assertTotalMatches(THIRD);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void assertTotalMatches(String expectedTimeData) {
+        int[] expected = new int[TimeSlotCodec.SLOT_COUNT];
+        for (int slot = 0; slot < expected.length; slot++) {
+            expected[slot] = expectedTimeData.charAt(slot) == '1' ? 1 : 0;
+        }
+
+        // GET /total 과 같은 경로 (히트맵 → 응답 변환)
+        AvailabilityResponseDto.TotalAvailabilityResponse total =
+                availabilityProcessor.processTotalCounts(availabilityService.getTotalCounts(roomId));
+        assertEquals(1, total.getTotalDatas().size());
+        assertEquals(DATE, total.getTotalDatas().get(0).getDate());
+        assertArrayEquals(expected, total.getTotalDatas().get(0).getCounts());
+        assertEquals(expectedTimeData, total.getTotalDatas().get(0).getTimeData());
+
+        // DB 에서 다시 집계한 값과도 같아야 함
+        int[] fromDb = transaction.execute(status ->
+                availabilityProcessor.countByDate(availabilityRepository.findAllByRoomId(roomId)).get(DATE));
+        assertArrayEquals(expected, fromDb);
+    }
+
+    private AvailabilityRequestDto.BatchUpdateRequest batch(String timeData) {
+        return AvailabilityRequestDto.BatchUpdateRequest.builder()
+                .roomUserId(roomUserId)
+                .updatedDataList(List.of(AvailabilityRequestDto.DateAvailabilityData.builder()
+                        .date(DATE)
+                        .timeData(timeData)
+                        .build()))
+                .build();
+    }
+
+    /**
+     * Redis 히트맵과 같은 규칙의 메모리 구현 (시드된 방에만 변경분 반영, 일정 행이 있는 날짜만 응답)
+     */
+    private static class InMemoryHeatmapRepository implements AvailabilityHeatmapRepository {
+
+        // 저장 흐름 중간에 끼워 넣을 동작 (동시성 테스트용)
+        private volatile Runnable onMarkWriting = () -> {
+        };
+
+        private final Map<Long, Map<LocalDate, int[]>> countsByRoom = new HashMap<>();
+        private final Map<Long, Set<LocalDate>> datesByRoom = new HashMap<>();
+
+        @Override
+        public synchronized Optional<Map<LocalDate, int[]>> find(Long roomId) {
+            if (!countsByRoom.containsKey(roomId)) {
+                return Optional.empty();
+            }
+            Map<LocalDate, int[]> result = new TreeMap<>();
+            for (LocalDate date : datesByRoom.get(roomId)) {
+                result.put(date, countsByRoom.get(roomId).get(date).clone());
+            }
+            return Optional.of(result);
+        }
+
+        @Override
+        public synchronized void seed(Long roomId, Map<LocalDate, int[]> countsByDate) {
+            if (countsByRoom.containsKey(roomId)) {
+                return;
+            }
+            Map<LocalDate, int[]> counts = new HashMap<>();
+            countsByDate.forEach((date, value) -> counts.put(date, value.clone()));
+            countsByRoom.put(roomId, counts);
+            datesByRoom.put(roomId, new HashSet<>(countsByDate.keySet()));
+        }
+
+        @Override
+        public void markWriting(Long roomId) {
+            onMarkWriting.run();
+        }
+
+        @Override
+        public synchronized void apply(Long roomId, List<AvailabilityChange> changes) {
+            Map<LocalDate, int[]> counts = countsByRoom.get(roomId);
+            if (counts == null) {
+                return;
+            }
+            for (AvailabilityChange change : changes) {
+                if (change.newRow()) {
+                    datesByRoom.get(roomId).add(change.date());
+                }
+                int[] dateCounts = counts.computeIfAbsent(change.date(), date -> new int[TimeSlotCodec.SLOT_COUNT]);
+                for (int slot = 0; slot < TimeSlotCodec.SLOT_COUNT; slot++) {
+                    if ((change.addedBits() & (1L << slot)) != 0) {
+                        dateCounts[slot]++;
+                    }
+                    if ((change.removedBits() & (1L << slot)) != 0) {
+                        dateCounts[slot]--;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public synchronized void invalidate(Long roomId) {
+            countsByRoom.remove(roomId);
+            datesByRoom.remove(roomId);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.promisenow.api.domain.chat.repository;
+
+import com.promisenow.api.config.QuerydslConfig;
+import com.promisenow.api.domain.chat.dto.MessageResponseDto;
+import com.promisenow.api.domain.chat.entity.Chat;
+import com.promisenow.api.domain.chat.entity.Image;
+import com.promisenow.api.domain.room.entity.Room;
+import com.promisenow.api.domain.room.entity.RoomUser;
+import com.promisenow.api.domain.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@TestPropertySource(properties = {
+        // schema.sql 은 MySQL 용 테스트 데이터라 사용하지 않음
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ChatRepositoryImplTest {
+
+    private static final int MESSAGE_COUNT = 30;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 15, 9, 0);
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder()
+                .userId(1L)
+                .joinDate(LocalDate.of(2025, 1, 1))
+                .build());
+        Room room = entityManager.persist(Room.builder()
+                .roomTitle("프로젝트 회의")
+                .roomState(Room.RoomState.ACTIVE)
+                .inviteCode("12345")
+                .build());
+        RoomUser roomUser = entityManager.persist(RoomUser.builder()
+                .room(room)
+                .user(user)
+                .nickname("푸른호랑이32")
+                .isAgreed(true)
+                .sortOrder(1)
+                .build());
+        roomId = room.getRoomId();
+
+        // 짝수 번째는 이미지 메시지, 그중 첫 메시지에는 이미지 행이 두 개
+        for (long id = 1; id <= MESSAGE_COUNT; id++) {
+            boolean isImage = id % 2 == 0;
+            Chat chat = entityManager.persist(Chat.builder()
+                    .messageId(id)
+                    .roomUser(roomUser)
+                    .content("message " + id)
+                    .type(isImage ? Chat.ChatType.IMAGE : Chat.ChatType.TEXT)
+                    .sentDate(BASE_TIME.plusMinutes(id))
+                    .build());
+            if (isImage) {
+                persistImage(chat, "https://example.com/" + id + ".jpg");
+            }
+            if (id == 2) {
+                persistImage(chat, "https://example.com/2-duplicate.jpg");
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("페이지 조회는 메시지 수와 무관하게 SQL 한 번으로 끝난다")
+    void loadsPageInSingleStatement() {
+        Statistics statistics = statistics();
+
+        List<MessageResponseDto> page = chatRepository.findMessagesBefore(roomId, null, 20);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(20, page.size());
+        assertEquals(MESSAGE_COUNT, page.get(0).getMessageId());
+    }
+
+    @Test
+    @DisplayName("전체 조회도 SQL 한 번이고, 발신자 정보가 함께 채워진다")
+    void loadsAllMessagesInSingleStatement() {
+        Statistics statistics = statistics();
+
+        List<MessageResponseDto> messages = chatRepository.findAllMessages(roomId);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(MESSAGE_COUNT, messages.size());
+        assertEquals("푸른호랑이32", messages.get(0).getNickname());
+        assertEquals(1L, messages.get(0).getUserId());
+    }
+
+    @Test
+    @DisplayName("이미지 행이 여러 개인 메시지도 한 번만 반환하고, 먼저 저장된 이미지를 사용한다")
+    void returnsOneRowPerMessageWithMultipleImages() {
+        List<MessageResponseDto> messages = chatRepository.findAllMessages(roomId);
+
+        List<Long> ids = messages.stream().map(MessageResponseDto::getMessageId).toList();
+        assertEquals(MESSAGE_COUNT, ids.stream().distinct().count());
+        assertEquals("https://example.com/2.jpg", messages.get(1).getImageUrl());
+        assertNull(messages.get(0).getImageUrl());
+
+        // 중복 행이 페이지 크기를 차지하지 않음
+        List<MessageResponseDto> page = chatRepository.findMessagesAfter(roomId, null, 5);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), page.stream().map(MessageResponseDto::getMessageId).toList());
+    }
+
+    private void persistImage(Chat chat, String imageUrl) {
+        entityManager.persist(Image.builder()
+                .chat(chat)
+                .imageUrl(imageUrl)
+                .sentDate(chat.getSentDate())
+                .build());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
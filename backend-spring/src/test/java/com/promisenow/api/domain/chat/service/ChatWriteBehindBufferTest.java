@@ -0,0 +1,134 @@
+package com.promisenow.api.domain.chat.service;
+
+import com.promisenow.api.domain.chat.entity.Chat;
+import com.promisenow.api.domain.chat.repository.ChatBatchWriter;
+import com.promisenow.api.domain.chat.repository.ChatDeadLetterRepository;
+import com.promisenow.api.domain.chat.repository.ChatInsert;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatWriteBehindBufferTest {
+
+    @Mock
+    private ChatBatchWriter chatBatchWriter;
+
+    @Mock
+    private ChatDeadLetterRepository chatDeadLetterRepository;
+
+    private ChatWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ChatWriteBehindBuffer(chatBatchWriter, chatDeadLetterRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(buffer, "queueCapacity", 100);
+        ReflectionTestUtils.setField(buffer, "batchSize", 10);
+        ReflectionTestUtils.setField(buffer, "flushIntervalMs", 10L);
+        ReflectionTestUtils.setField(buffer, "shutdownTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(buffer, "retryInitialBackoffMs", 10L);
+        ReflectionTestUtils.setField(buffer, "retryMaxBackoffMs", 50L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        buffer.shutdown();
+    }
+
+    @Test
+    @DisplayName("DB 일시 장애는 버리지 않고 복구될 때까지 재시도한다")
+    void retriesTransientFailures() {
+        doThrow(new CannotGetJdbcConnectionException("connection refused"))
+                .doThrow(new CannotGetJdbcConnectionException("connection refused"))
+                .doNothing()
+                .when(chatBatchWriter).insertAll(anyList());
+        buffer.init();
+
+        buffer.enqueue(chat(1L));
+
+        verify(chatBatchWriter, timeout(2000).times(3)).insertAll(anyList());
+        verify(chatDeadLetterRepository, after(100).never()).save(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("제약 조건 위반처럼 재시도해도 실패하는 행만 dead-letter 로 보낸다")
+    void deadLettersPermanentFailures() {
+        ChatInsert broken = chat(2L);
+        doThrow(new DataIntegrityViolationException("fk violation"))
+                .when(chatBatchWriter).insertAll(anyList());
+        buffer.init();
+
+        buffer.enqueue(broken);
+
+        verify(chatDeadLetterRepository, timeout(2000)).save(eq(broken), anyString());
+        verify(chatBatchWriter, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("중복 키인데 저장된 행이 같은 메시지면 이미 저장된 것으로 보고 넘어간다")
+    void treatsDuplicateKeyAsSavedWhenRowMatches() {
+        doThrow(new DuplicateKeyException("duplicate message_id"))
+                .when(chatBatchWriter).insertAll(anyList());
+        when(chatBatchWriter.isStored(any())).thenReturn(true);
+        buffer.init();
+
+        buffer.enqueue(chat(3L));
+
+        verify(chatBatchWriter, timeout(2000)).isStored(any());
+        verify(chatDeadLetterRepository, after(100).never()).save(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("중복 키인데 저장된 행이 다른 메시지면 dead-letter 로 보낸다")
+    void deadLettersConflictingMessageId() {
+        doThrow(new DuplicateKeyException("duplicate message_id"))
+                .when(chatBatchWriter).insertAll(anyList());
+        when(chatBatchWriter.isStored(any())).thenReturn(false);
+        buffer.init();
+
+        ChatInsert conflicting = chat(5L);
+        buffer.enqueue(conflicting);
+
+        verify(chatDeadLetterRepository, timeout(2000)).save(eq(conflicting), anyString());
+    }
+
+    @Test
+    @DisplayName("정상 저장시 dead-letter 를 쓰지 않는다")
+    void writesNormally() {
+        doNothing().when(chatBatchWriter).insertAll(anyList());
+        buffer.init();
+
+        buffer.enqueue(chat(4L));
+
+        verify(chatBatchWriter, timeout(2000)).insertAll(anyList());
+        verify(chatDeadLetterRepository, never()).save(any(), anyString());
+    }
+
+    private static ChatInsert chat(long messageId) {
+        return new ChatInsert(messageId, 1L, "hello", Chat.ChatType.TEXT, LocalDateTime.now(), null, null, null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.promisenow.api.domain.leaderboard.service;
+
+import com.promisenow.api.domain.leaderboard.codec.PositionCodec;
+import com.promisenow.api.domain.leaderboard.codec.PositionRecord;
+import com.promisenow.api.domain.leaderboard.dto.LeaderboardEntryDto;
+import com.promisenow.api.domain.leaderboard.dto.PositionResponseDto;
+import com.promisenow.api.domain.leaderboard.repository.LeaderboardRepository;
+import com.promisenow.api.global.util.GeoDistance;
+import com.promisenow.api.infrastructure.redis.RedisHealthMonitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceImplTest {
+
+    private static final long ROOM_ID = 1L;
+    private static final double USER_LAT = 37.5665;
+    private static final double USER_LNG = 126.9780;
+
+    @Mock
+    private LeaderboardRepository leaderboardRepository;
+
+    @Mock
+    private RedisHealthMonitor redisHealthMonitor;
+
+    @Test
+    @DisplayName("같은 방의 목적지가 바뀌면 캐시된 목적지 cos 값 대신 새 목적지 기준으로 거리를 계산한다")
+    void recomputesCachedGoalWhenDestinationChanges() {
+        LeaderboardServiceImpl service = service("haversine");
+        when(leaderboardRepository.getLeaderboardEntries(anyString(), anyString(), anyInt()))
+                .thenAnswer(invocation -> List.of(entry()));
+
+        // 위도가 크게 다른 두 목적지 (cos(위도) 가 달라 캐시가 갱신되지 않으면 거리가 틀어진다)
+        double firstDistance = distanceOf(service.getLeaderboard(ROOM_ID, 37.4979, 127.0276, 10));
+        double secondDistance = distanceOf(service.getLeaderboard(ROOM_ID, 35.1796, 129.0756, 10));
+        double firstAgain = distanceOf(service.getLeaderboard(ROOM_ID, 37.4979, 127.0276, 10));
+
+        assertEquals(GeoDistance.haversine(USER_LAT, USER_LNG, 37.4979, 127.0276), firstDistance, 1e-9);
+        assertEquals(GeoDistance.haversine(USER_LAT, USER_LNG, 35.1796, 129.0756), secondDistance, 1e-9);
+        assertEquals(firstDistance, firstAgain, 0);
+    }
+
+    @Test
+    @DisplayName("등장방형 모드에서도 캐시된 목적지 기준 거리는 하버사인과 1m 이내")
+    void equirectangularModeUsesCachedGoal() {
+        LeaderboardServiceImpl service = service("equirectangular");
+        when(leaderboardRepository.getLeaderboardEntries(anyString(), anyString(), anyInt()))
+                .thenAnswer(invocation -> List.of(entry()));
+
+        for (int i = 0; i < 3; i++) {
+            double distance = distanceOf(service.getLeaderboard(ROOM_ID, 37.4979, 127.0276, 10));
+            assertEquals(GeoDistance.haversine(USER_LAT, USER_LNG, 37.4979, 127.0276), distance, 0.001);
+        }
+    }
+
+    private LeaderboardServiceImpl service(String distanceMode) {
+        LeaderboardServiceImpl service = new LeaderboardServiceImpl(leaderboardRepository, redisHealthMonitor);
+        ReflectionTestUtils.setField(service, "distanceModeName", distanceMode);
+        service.init();
+        return service;
+    }
+
+    private static LeaderboardEntryDto entry() {
+        PositionRecord position = new PositionRecord();
+        position.setLat(USER_LAT);
+        position.setLng(USER_LNG);
+        position.setFlags(PositionCodec.FLAG_HAS_POSITION | PositionCodec.FLAG_HAS_START);
+        return LeaderboardEntryDto.builder()
+                .roomUserId(10L)
+                .online(true)
+                .position(position)
+                .build();
+    }
+
+    private static double distanceOf(List<PositionResponseDto> board) {
+        assertEquals(1, board.size());
+        return board.get(0).getDistance();
+    }
+}
@@ -0,0 +1,98 @@
+package com.promisenow.api.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoDistanceTest {
+
+    // 등장방형 근사의 허용 오차 (1m)
+    private static final double TOLERANCE_KM = 0.001;
+
+    private static final double[] LATITUDES = {-60, -33.87, 0, 21.3, 37.5665, 51.5, 60};
+    private static final double[] BEARINGS = {0, 30, 45, 90, 135, 180, 225, 270, 315};
+
+    @Test
+    @DisplayName("0~50km 구간에서 등장방형 근사는 하버사인과 1m 이내로 일치한다")
+    void equirectangularWithinOneMeterOfHaversine() {
+        for (double lat : LATITUDES) {
+            GeoDistance.Point from = GeoDistance.Point.of(lat, 127.0);
+            for (double bearing : BEARINGS) {
+                for (double km = 0; km <= 50; km += 0.5) {
+                    double[] to = destination(lat, 127.0, bearing, km);
+
+                    double haversine = GeoDistance.distanceKm(GeoDistance.Mode.HAVERSINE, from, to[0], to[1]);
+                    double equirectangular = GeoDistance.distanceKm(GeoDistance.Mode.EQUIRECTANGULAR, from, to[0], to[1]);
+
+                    double expectedKm = km;
+                    assertEquals(expectedKm, haversine, 1e-6,
+                            () -> "haversine lat=" + lat + " bearing=" + bearing + " km=" + expectedKm);
+                    assertEquals(haversine, equirectangular, TOLERANCE_KM,
+                            () -> "equirectangular lat=" + lat + " bearing=" + bearing + " km=" + expectedKm);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("날짜변경선을 넘는 경우에도 두 모드가 일치한다")
+    void crossesAntimeridian() {
+        GeoDistance.Point from = GeoDistance.Point.of(-17.7, 179.95);
+        double[] to = destination(-17.7, 179.95, 90, 20);
+        double lng = to[1] > 180 ? to[1] - 360 : to[1];
+
+        double haversine = GeoDistance.distanceKm(GeoDistance.Mode.HAVERSINE, from, to[0], lng);
+        double equirectangular = GeoDistance.distanceKm(GeoDistance.Mode.EQUIRECTANGULAR, from, to[0], lng);
+
+        assertEquals(20, haversine, 1e-6);
+        assertEquals(haversine, equirectangular, TOLERANCE_KM);
+    }
+
+    @Test
+    @DisplayName("haversine(lat1, lng1, lat2, lng2) 는 Point 기반 계산과 같다")
+    void haversineMatchesPointBasedDistance() {
+        double expected = GeoDistance.distanceKm(GeoDistance.Mode.HAVERSINE,
+                GeoDistance.Point.of(37.4979, 127.0276), 37.5665, 126.9780);
+
+        assertEquals(expected, GeoDistance.haversine(37.5665, 126.9780, 37.4979, 127.0276), 1e-12);
+        assertTrue(expected > 8.5 && expected < 9.0, "강남역 ~ 서울시청 약 8.8km");
+    }
+
+    @Test
+    @DisplayName("Point 는 위도의 라디안/sin/cos 를 미리 계산해 둔다")
+    void pointCachesTrigonometry() {
+        for (double lat : LATITUDES) {
+            GeoDistance.Point point = GeoDistance.Point.of(lat, 127.0);
+
+            assertEquals(Math.toRadians(lat), point.latRad(), 0);
+            assertEquals(Math.toRadians(127.0), point.lngRad(), 0);
+            assertEquals(Math.sin(Math.toRadians(lat)), point.sinLat(), 0);
+            assertEquals(Math.cos(Math.toRadians(lat)), point.cosLat(), 0);
+            assertTrue(point.isAt(lat, 127.0));
+        }
+    }
+
+    @Test
+    @DisplayName("설정값을 모드로 변환하고, 알 수 없는 값은 HAVERSINE")
+    void modeFromConfig() {
+        assertEquals(GeoDistance.Mode.EQUIRECTANGULAR, GeoDistance.Mode.from("Equirectangular"));
+        assertEquals(GeoDistance.Mode.HAVERSINE, GeoDistance.Mode.from("haversine"));
+        assertEquals(GeoDistance.Mode.HAVERSINE, GeoDistance.Mode.from("unknown"));
+        assertEquals(GeoDistance.Mode.HAVERSINE, GeoDistance.Mode.from(null));
+    }
+
+    // 구면에서 출발점으로부터 방위각(도) 방향으로 km 만큼 이동한 좌표
+    private static double[] destination(double lat, double lng, double bearing, double km) {
+        double delta = km / GeoDistance.EARTH_RADIUS_KM;
+        double theta = Math.toRadians(bearing);
+        double phi1 = Math.toRadians(lat);
+        double lambda1 = Math.toRadians(lng);
+
+        double phi2 = Math.asin(Math.sin(phi1) * Math.cos(delta) + Math.cos(phi1) * Math.sin(delta) * Math.cos(theta));
+        double lambda2 = lambda1 + Math.atan2(Math.sin(theta) * Math.sin(delta) * Math.cos(phi1),
+                Math.cos(delta) - Math.sin(phi1) * Math.sin(phi2));
+        return new double[]{Math.toDegrees(phi2), Math.toDegrees(lambda2)};
+    }
+}
@@ -0,0 +1,152 @@
+package com.promisenow.api.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisTopicPublisherTest {
+
+    private static final String CHANNEL = "stomp:topic:test";
+    private static final int MESSAGES_PER_PUBLISHER = 200;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<LettuceConnectionFactory> connectionFactories = new ArrayList<>();
+    private final List<RedisTopicPublisher> publishers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisTopicPublisher publisher : publishers) {
+            publisher.shutdown();
+        }
+        for (LettuceConnectionFactory connectionFactory : connectionFactories) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("두 인스턴스가 번갈아 발행해도 각 인스턴스는 발행자별 순서대로 받는다")
+    void preservesPublishOrderAcrossInstances() {
+        LettuceConnectionFactory connectionFactory = connectionFactory();
+        SimpMessagingTemplate firstTemplate = mock(SimpMessagingTemplate.class);
+        SimpMessagingTemplate secondTemplate = mock(SimpMessagingTemplate.class);
+        RedisTopicPublisher first = publisher(connectionFactory, new StringRedisTemplate(connectionFactory), firstTemplate);
+        RedisTopicPublisher second = publisher(connectionFactory, new StringRedisTemplate(connectionFactory), secondTemplate);
+
+        for (int seq = 0; seq < MESSAGES_PER_PUBLISHER; seq++) {
+            first.publish("/topic/first", Map.of("seq", seq));
+            second.publish("/topic/second", Map.of("seq", seq));
+        }
+
+        for (SimpMessagingTemplate template : List.of(firstTemplate, secondTemplate)) {
+            Map<String, List<Integer>> received = receivedSequences(template, MESSAGES_PER_PUBLISHER * 2);
+            assertEquals(expectedSequence(), received.get("/topic/first"));
+            assertEquals(expectedSequence(), received.get("/topic/second"));
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 발행이 실패하면 같은 인스턴스의 구독자에게 한 번만 직접 전달한다")
+    void fallsBackToLocalDeliveryWhenRedisIsDown() {
+        LettuceConnectionFactory connectionFactory = connectionFactory();
+        StringRedisTemplate downTemplate = mock(StringRedisTemplate.class);
+        doThrow(new RedisConnectionFailureException("Redis 장애"))
+                .when(downTemplate).convertAndSend(anyString(), anyString());
+        SimpMessagingTemplate localTemplate = mock(SimpMessagingTemplate.class);
+        SimpMessagingTemplate remoteTemplate = mock(SimpMessagingTemplate.class);
+        RedisTopicPublisher local = publisher(connectionFactory, downTemplate, localTemplate);
+        publisher(connectionFactory, new StringRedisTemplate(connectionFactory), remoteTemplate);
+
+        local.publish("/topic/room/1", Map.of("seq", 7));
+
+        Map<String, List<Integer>> received = receivedSequences(localTemplate, 1);
+        assertEquals(List.of(7), received.get("/topic/room/1"));
+        verify(localTemplate, after(300).times(1)).send(anyString(), any(Message.class));
+        // Redis 를 거치지 않았으므로 다른 인스턴스에는 전달되지 않음
+        verify(remoteTemplate, after(300).never()).send(eq("/topic/room/1"), any(Message.class));
+    }
+
+    private LettuceConnectionFactory connectionFactory() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactories.add(connectionFactory);
+        return connectionFactory;
+    }
+
+    private RedisTopicPublisher publisher(LettuceConnectionFactory connectionFactory,
+                                          StringRedisTemplate stringRedisTemplate,
+                                          SimpMessagingTemplate messagingTemplate) {
+        RedisTopicPublisher publisher = new RedisTopicPublisher(CHANNEL, connectionFactory, stringRedisTemplate,
+                messagingTemplate, objectMapper, new SimpleMeterRegistry());
+        publisher.init();
+        publishers.add(publisher);
+        return publisher;
+    }
+
+    // 로컬 브로커로 전달된 메시지를 목적지별 seq 목록으로 (전달 순서 유지)
+    @SuppressWarnings("unchecked")
+    private Map<String, List<Integer>> receivedSequences(SimpMessagingTemplate template, int expectedCount) {
+        ArgumentCaptor<String> destinations = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Message<byte[]>> messages = ArgumentCaptor.forClass(Message.class);
+        // timeout 검증은 재시도마다 캡처가 쌓이므로 도착을 기다린 뒤 한 번만 캡처
+        verify(template, timeout(5000).times(expectedCount)).send(anyString(), any(Message.class));
+        verify(template, times(expectedCount)).send(destinations.capture(), messages.capture());
+
+        Map<String, List<Integer>> received = new HashMap<>();
+        for (int i = 0; i < expectedCount; i++) {
+            String json = new String(messages.getAllValues().get(i).getPayload(), StandardCharsets.UTF_8);
+            int seq;
+            try {
+                seq = objectMapper.readTree(json).get("seq").asInt();
+            } catch (Exception e) {
+                throw new AssertionError("잘못된 JSON: " + json, e);
+            }
+            received.computeIfAbsent(destinations.getAllValues().get(i), key -> new ArrayList<>()).add(seq);
+        }
+        return received;
+    }
+
+    private static List<Integer> expectedSequence() {
+        List<Integer> expected = new ArrayList<>(MESSAGES_PER_PUBLISHER);
+        for (int seq = 0; seq < MESSAGES_PER_PUBLISHER; seq++) {
+            expected.add(seq);
+        }
+        return expected;
+    }
+}
@@ -4,6 +4,11 @@ export interface AvailabilityData {
   timeData: string;
 }
 
+// 날짜별 누적 데이터 (counts: 시간대별 선택 인원 수, timeData: 슬롯당 한 글자 base-36)
+export interface TotalAvailabilityData extends AvailabilityData {
+  counts?: number[];
+}
+
 // 특정 시간대가 가능한 사용자
 export interface ConfirmedUserData {
   nickname: string;
@@ -46,7 +51,7 @@ export interface GetConfirmedUsersRequest {
 
 // Response 타입들
 export interface TotalAvailabilityResponse {
-  totalDatas: AvailabilityData[];
+  totalDatas: TotalAvailabilityData[];
 }
 
 export interface MyAvailabilityResponse {
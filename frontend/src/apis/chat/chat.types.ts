@@ -15,6 +15,7 @@ export interface UploadImageRequest {
 
 // 메세지 전체 조회
 export interface ChatMessageResponse {
+  messageId?: number;
   content: string;
   roomUserId: number;
   nickname: string;
@@ -23,6 +24,19 @@ export interface ChatMessageResponse {
   imageUrl: string | null;
 }
 
+// 피노 스트리밍 응답 조각 (/topic/chat/{roomId}, kind === 'PINO_CHUNK')
+// 같은 correlationId 의 조각을 seq 순서로 이어붙이고, done 조각 뒤에 같은 messageId 의 최종 메시지가 온다.
+export interface PinoChunkMessage {
+  kind: 'PINO_CHUNK';
+  correlationId: string;
+  roomUserId: number;
+  nickname: string;
+  seq: number;
+  delta: string | null;
+  done: boolean;
+  messageId: number | null;
+}
+
 // 이미지 경로 받기
 export interface UploadImageResponse {
   fileUrl: string;
@@ -82,9 +82,11 @@ const MonthlyCalendar = ({ mode, totalDatas, currentDate, totalMembers, dateRang
           {days.map((day) => {
             const key = format(day, 'yyyy-MM-dd');
             const dateData = getDateData(key);
-            const count = dateData?.timeData
-              ? Math.max(...dateData.timeData.split('').map(Number))
-              : 0;
+            const count = dateData?.counts
+              ? Math.max(0, ...dateData.counts)
+              : dateData?.timeData
+                ? Math.max(...dateData.timeData.split('').map((c) => parseInt(c, 36)))
+                : 0;
 
             const isOutOfRange = isDisabled(day);
             const isCurrentMonth = isSameMonth(day, currentMonth);
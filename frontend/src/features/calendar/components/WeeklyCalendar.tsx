@@ -192,7 +192,9 @@ const WeeklyCalendar = ({ mode, currentDate, totalDatas, totalMembers, dateRange
 
                 const dateData = getDateData(date);
                 const hasData = !!dateData;
-                const count = hasData ? Number(dateData.timeData?.[idx] ?? 0) : 0;
+                const count = hasData
+                  ? (dateData.counts?.[idx] ?? parseInt(dateData.timeData?.[idx] ?? '0', 36))
+                  : 0;
                 const selected = userSelections[date]?.[idx] ?? false;
                 const isDrag = isInDragRange(date, idx);
 
@@ -4,7 +4,7 @@ import { useCallback, useEffect, useRef } from 'react';
 import { useParams } from 'react-router-dom';
 
 import type { ChatMessageResponse } from '../../../apis/chat/chat.types';
-import { chatKeys } from '../../../hooks/chat';
+import { chatKeys, isPinoChunk, usePinoStreams } from '../../../hooks/chat';
 import { useChatMessages } from '../../../hooks/chat/queries';
 import { useChatSocket } from '../../../hooks/socket/useChatSocket';
 
@@ -29,9 +29,17 @@ const ChatScreen = () => {
 
 
   const qc = useQueryClient();
+  const { streamingMessages, onChunk, onFinalMessage } = usePinoStreams();
   const handleIncoming = useCallback(
     (raw: unknown) => {
+      // 피노 스트리밍 조각은 목록에 넣지 않고 진행중 메시지로만 표시
+      if (isPinoChunk(raw)) {
+        onChunk(raw);
+        return;
+      }
+
       const msg = raw as ChatMessageResponse;
+      onFinalMessage(msg);
 
       
       qc.setQueryData<ChatMessageResponse[]>(chatKeys.messages(roomId), (old = []) => {
@@ -56,7 +64,7 @@ const ChatScreen = () => {
         return sortedMessages;
       });
     },
-    [qc, roomId],
+    [qc, roomId, onChunk, onFinalMessage],
   );
 
   const subscribeDest = useCallback((rid: number) => `/topic/chat/${rid}`, []);
@@ -79,9 +87,10 @@ const ChatScreen = () => {
     });
   }, []);
 
+  const streamingLength = streamingMessages.reduce((sum, m) => sum + m.content.length, 0);
   useEffect(() => {
     scrollToBottom();
-  }, [messages.length, scrollToBottom]);
+  }, [messages.length, streamingLength, scrollToBottom]);
 
   const handleMediaLoad = useCallback(() => {
     scrollToBottom();
@@ -105,7 +114,9 @@ const ChatScreen = () => {
       <div ref={scrollerRef} className="flex-1 overflow-y-auto px-4 pt-2 flex flex-col">
         {isLoading && <p className="text-center text-sm text-gray-500">로딩 중...</p>}
         {isError && <p className="text-center text-sm text-red-500">메시지 로드 실패</p>}
-        {!isLoading && !isError && <MessageList messages={messages} onMediaLoad={handleMediaLoad} />}
+        {!isLoading && !isError && (
+          <MessageList messages={[...messages, ...streamingMessages]} onMediaLoad={handleMediaLoad} />
+        )}
       </div>
 
       <div className="px-4 pt-2">
@@ -4,5 +4,8 @@ export { chatKeys } from './keys';
 // Query Hooks
 export { useChatMessages } from './queries';
 
+// 피노 스트리밍 응답
+export { isPinoChunk, usePinoStreams } from './usePinoStreams';
+
 // Mutation Hooks
 export { useUploadChatImage } from './mutations';
@@ -0,0 +1,118 @@
+// src/hooks/chat/usePinoStreams.ts
+import { format } from 'date-fns';
+import { useCallback, useEffect, useMemo, useRef, useState } from 'react';
+
+import type { ChatMessageResponse, PinoChunkMessage } from '../../apis/chat/chat.types';
+
+// 최종 메시지가 끝내 오지 않은 경우 진행중 말풍선을 정리하는 시간
+const DONE_CLEANUP_MS = 10_000;
+
+interface PinoStream {
+  roomUserId: number;
+  nickname: string;
+  sentDate: string;
+  chunks: string[]; // seq 위치에 조각 저장 (순서가 뒤바뀌어 도착해도 seq 순으로 표시)
+  messageId: number | null;
+  done: boolean;
+}
+
+export const isPinoChunk = (payload: unknown): payload is PinoChunkMessage =>
+  typeof payload === 'object' && payload !== null && (payload as { kind?: unknown }).kind === 'PINO_CHUNK';
+
+// 0 번부터 빠짐없이 도착한 조각까지만 이어붙임
+const joinContiguous = (chunks: string[]) => {
+  let text = '';
+  for (let i = 0; i < chunks.length; i++) {
+    if (chunks[i] === undefined) break;
+    text += chunks[i];
+  }
+  return text;
+};
+
+/**
+ * 피노 스트리밍 응답 조립
+ * - onChunk: PINO_CHUNK 조각을 correlationId 별로 모아 진행중 메시지로 표시
+ * - onFinalMessage: 같은 messageId 의 최종 메시지가 오면 진행중 메시지를 제거 (최종 메시지로 교체)
+ */
+export const usePinoStreams = () => {
+  const [streams, setStreams] = useState<Record<string, PinoStream>>({});
+  const timersRef = useRef<ReturnType<typeof setTimeout>[]>([]);
+
+  useEffect(() => {
+    const timers = timersRef.current;
+    return () => timers.forEach(clearTimeout);
+  }, []);
+
+  const remove = useCallback((correlationId: string) => {
+    setStreams((prev) => {
+      if (!(correlationId in prev)) return prev;
+      const next = { ...prev };
+      delete next[correlationId];
+      return next;
+    });
+  }, []);
+
+  const onChunk = useCallback(
+    (chunk: PinoChunkMessage) => {
+      setStreams((prev) => {
+        const current: PinoStream = prev[chunk.correlationId] ?? {
+          roomUserId: chunk.roomUserId,
+          nickname: chunk.nickname,
+          sentDate: format(new Date(), "yyyy-MM-dd'T'HH:mm:ss.SSS"),
+          chunks: [],
+          messageId: null,
+          done: false,
+        };
+        const chunks = [...current.chunks];
+        if (chunk.delta) chunks[chunk.seq] = chunk.delta;
+        // done 조각은 본문이 없으므로 그 앞까지만 채워지면 됨
+        if (chunk.done) {
+          for (let i = 0; i < chunk.seq; i++) chunks[i] ??= '';
+        }
+        return {
+          ...prev,
+          [chunk.correlationId]: {
+            ...current,
+            chunks,
+            done: current.done || chunk.done,
+            messageId: chunk.messageId ?? current.messageId,
+          },
+        };
+      });
+
+      if (chunk.done) {
+        timersRef.current.push(setTimeout(() => remove(chunk.correlationId), DONE_CLEANUP_MS));
+      }
+    },
+    [remove],
+  );
+
+  const onFinalMessage = useCallback((message: ChatMessageResponse) => {
+    if (message.type !== 'PINO' || message.messageId == null) return;
+    setStreams((prev) => {
+      const entry = Object.entries(prev).find(([, stream]) => stream.messageId === message.messageId);
+      if (!entry) return prev;
+      const next = { ...prev };
+      delete next[entry[0]];
+      return next;
+    });
+  }, []);
+
+  // 목록에 이어 붙일 수 있도록 일반 메시지 형태로 변환
+  const streamingMessages = useMemo<ChatMessageResponse[]>(
+    () =>
+      Object.values(streams)
+        .map((stream) => ({
+          content: joinContiguous(stream.chunks),
+          roomUserId: stream.roomUserId,
+          nickname: stream.nickname,
+          sentDate: stream.sentDate,
+          type: 'PINO' as const,
+          imageUrl: null,
+        }))
+        .filter((message) => message.content.length > 0),
+    [streams],
+  );
+
+  return { streamingMessages, onChunk, onFinalMessage };
+};